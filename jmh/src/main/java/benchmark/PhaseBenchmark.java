@@ -0,0 +1,89 @@
+package benchmark;
+
+import app.TransportationSimplex;
+import app.VAMSolver;
+import io.FileManager;
+import io.OutputBuffer;
+import io.TextResultWriter;
+import model.TransportationProblem;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.nio.channels.Channels;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.concurrent.TimeUnit;
+
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 5, time = 2)
+@Measurement(iterations = 10, time = 2)
+@Fork(2)
+public class PhaseBenchmark {
+    @Param({"1000"})
+    private int producers;
+
+    @Param({"1000"})
+    private int pharmacies;
+
+    @Param({"1", "0.05"})
+    private double density;
+
+    @Param({"uniform", "clustered"})
+    private String distribution;
+
+    @Param({"1"})
+    private long seed;
+
+    private Path instance;
+    private boolean sparse;
+    private TransportationProblem problem;
+    private int[] vaccinesSold;
+
+    @Setup(Level.Trial)
+    public void setUp() throws IOException {
+        InstanceGenerator generator = new InstanceGenerator(producers, pharmacies, density,
+                InstanceGenerator.PriceDistribution.valueOf(distribution.toUpperCase()), seed);
+        sparse = generator.isSparse();
+        instance = Files.createTempFile("instance", ".txt");
+        generator.write(instance);
+        problem = new FileManager(sparse).readProblem(instance.toString());
+        vaccinesSold = solve();
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() throws IOException {
+        Files.deleteIfExists(instance);
+    }
+
+    @Benchmark
+    public TransportationProblem readProblem() {
+        return new FileManager(sparse).readProblem(instance.toString());
+    }
+
+    @Benchmark
+    public int[] solve() {
+        return sparse ? new TransportationSimplex(problem).solve() : new VAMSolver().solve(problem);
+    }
+
+    @Benchmark
+    public void write() throws IOException {
+        try (OutputBuffer output = new OutputBuffer(Channels.newChannel(OutputStream.nullOutputStream()), true)) {
+            new TextResultWriter().write(problem, vaccinesSold, output);
+        }
+    }
+}
@@ -0,0 +1,83 @@
+package benchmark;
+
+import app.AuctionSolver;
+import app.ParallelCalculator;
+import app.TransportationSimplex;
+import app.TransportationSolver;
+import app.VAMSolver;
+import io.FileManager;
+import model.TransportationProblem;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.TimeUnit;
+
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 5)
+@Measurement(iterations = 5, time = 5)
+@Fork(1)
+public class SolverBenchmark {
+    @Param({"300x300", "1000x1000"})
+    private String size;
+
+    @Param({"1"})
+    private double density;
+
+    @Param({"vam", "simplex", "auction", "parallel-auction"})
+    private String solver;
+
+    private TransportationProblem problem;
+    private TransportationSolver transportationSolver;
+
+    @Setup(Level.Trial)
+    public void setUp() throws IOException {
+        String[] dimensions = size.split("x");
+        InstanceGenerator generator = new InstanceGenerator(Integer.parseInt(dimensions[0]),
+                Integer.parseInt(dimensions[1]), density, InstanceGenerator.PriceDistribution.UNIFORM, 1);
+        Path instance = Files.createTempFile("instance", ".txt");
+        try {
+            generator.write(instance);
+            problem = new FileManager(generator.isSparse()).readProblem(instance.toString());
+        } finally {
+            Files.deleteIfExists(instance);
+        }
+
+        switch (solver) {
+            case "vam":
+                transportationSolver = new VAMSolver();
+                break;
+            case "simplex":
+                transportationSolver = generated -> new TransportationSimplex(generated).solve();
+                break;
+            case "auction":
+                transportationSolver = new AuctionSolver();
+                break;
+            case "parallel-auction":
+                transportationSolver = new AuctionSolver(new ParallelCalculator(ForkJoinPool.commonPool(), 256));
+                break;
+            default:
+                throw new IllegalArgumentException("Nieznany algorytm: " + solver);
+        }
+    }
+
+    @Benchmark
+    public int[] solve() {
+        return transportationSolver.solve(problem);
+    }
+}
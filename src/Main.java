@@ -1,8 +1,341 @@
+import app.AuctionSolver;
+import app.BatchSolver;
+import app.OffHeapAuctionNetwork;
+import app.ParallelCalculator;
+import app.RollingHorizonSolver;
+import app.SolverClient;
+import app.SolverMetrics;
+import app.SolverOptions;
+import app.SolverServer;
 import app.TransactionsControl;
+import exception.DataFileException;
+import exception.IdAlreadyExistsException;
+import exception.InputDataException;
+import exception.InvalidConnectionsException;
+import exception.ParticipantNotInFileException;
+import exception.SolverServerException;
+import exception.UnsatisfiableDemandException;
+import io.FileManager;
+import io.OutputBuffer;
+import io.ResultWriter;
+import model.AnytimeResult;
+import model.OffHeapProblem;
+import model.ScenarioResult;
+import model.TransportationProblem;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.NoSuchFileException;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.ForkJoinPool;
 
 public class Main {
     public static void main(String[] args) {
-        TransactionsControl transactionsControl = new TransactionsControl("data4.txt");
-        transactionsControl.minimizeAndPrintCosts();
+        List<String> fileNames = new ArrayList<>();
+        String binaryFileName = null;
+        String format = "text";
+        String outputFileName = null;
+        String metricsFileName = null;
+        String serverAddress = null;
+        String connectAddress = null;
+        boolean periods = false;
+        boolean offHeap = false;
+        SolverOptions options = new SolverOptions();
+        Set<String> usedOptions = new HashSet<>();
+        for (int i = 0; i < args.length; i++) {
+            String arg = args[i];
+            if (!arg.startsWith("--")) {
+                fileNames.add(arg);
+                continue;
+            }
+            usedOptions.add(arg);
+            if (arg.equals("--convert"))
+                binaryFileName = getValue(args, ++i, arg);
+            else if (arg.equals("--format"))
+                format = getValue(args, ++i, arg);
+            else if (arg.equals("--output"))
+                outputFileName = getValue(args, ++i, arg);
+            else if (arg.equals("--metrics"))
+                metricsFileName = getValue(args, ++i, arg);
+            else if (arg.equals("--server"))
+                serverAddress = getValue(args, ++i, arg);
+            else if (arg.equals("--connect"))
+                connectAddress = getValue(args, ++i, arg);
+            else if (arg.equals("--cache"))
+                options.setCacheDirectory(getValue(args, ++i, arg));
+            else if (arg.equals("--memory-cache")) {
+                options.setCacheSize(parseCacheSize(getValue(args, ++i, arg)));
+                options.setMemoryCache(true);
+            }
+            else if (arg.equals("--deadline"))
+                options.setDeadlineMillis(parseDeadline(getValue(args, ++i, arg)));
+            else if (arg.equals("--max-request-size"))
+                options.setMaxRequestSize(parseRequestSize(getValue(args, ++i, arg)));
+            else if (arg.equals("--periods"))
+                periods = true;
+            else if (arg.equals("--off-heap"))
+                offHeap = true;
+            else if (arg.equals("--optimize"))
+                options.setOptimize(true);
+            else if (arg.equals("--sparse"))
+                options.setSparse(true);
+            else if (arg.equals("--parallel"))
+                options.setParallel(true);
+            else if (arg.equals("--decompose"))
+                options.setDecompose(true);
+            else if (arg.equals("--auction"))
+                options.setAuction(true);
+            else if (arg.equals("--exact"))
+                options.setExact(true);
+            else
+                exit("Nieznana opcja: " + arg);
+        }
+        if (serverAddress == null && usedOptions.contains("--max-request-size"))
+            exit("Opcja --max-request-size wymaga trybu --server");
+        if (serverAddress != null) {
+            rejectOptions(usedOptions, "serwera", "--output", "--metrics", "--convert", "--connect");
+            runServer(serverAddress, options);
+            return;
+        }
+        if (fileNames.isEmpty())
+            fileNames.add("data4.txt");
+        if (connectAddress != null) {
+            rejectOptions(usedOptions, "klienta", "--output", "--metrics", "--convert");
+            solveRemotely(connectAddress, fileNames, format);
+            return;
+        }
+
+        if (offHeap) {
+            rejectOptions(usedOptions, "--off-heap", "--metrics", "--convert", "--periods", "--optimize",
+                    "--decompose", "--deadline", "--cache", "--memory-cache");
+            solveOffHeap(fileNames.get(0), options, format, outputFileName);
+            return;
+        }
+        if (periods) {
+            rejectOptions(usedOptions, "--periods", "--output", "--metrics", "--convert");
+            solvePeriods(fileNames, options, format);
+            return;
+        }
+        if (fileNames.size() > 1) {
+            rejectOptions(usedOptions, "wsadowym", "--output", "--metrics", "--convert");
+            solveBatch(fileNames, options, format);
+            return;
+        }
+
+        try {
+            SolverMetrics metrics = null;
+            if (metricsFileName != null) {
+                metrics = new SolverMetrics();
+                metrics.register();
+            }
+            TransactionsControl transactionsControl = new TransactionsControl(fileNames.get(0), options, metrics);
+            if (binaryFileName != null)
+                transactionsControl.saveBinaryProblem(binaryFileName);
+            else if (options.getDeadlineMillis() > 0)
+                printOptimality(transactionsControl.minimizeBeforeDeadlineAndWriteCosts(
+                        ResultWriter.forFormat(format), outputFileName));
+            else
+                transactionsControl.minimizeAndWriteCosts(ResultWriter.forFormat(format), outputFileName);
+            if (metrics != null)
+                transactionsControl.saveMetricsReport(metricsFileName);
+        } catch (IdAlreadyExistsException | IllegalArgumentException | InputDataException
+                | InvalidConnectionsException | ParticipantNotInFileException | DataFileException
+                | UnsatisfiableDemandException e) {
+            System.err.println(e.getMessage());
+            System.exit(1);
+        }
+    }
+
+    private static String getValue(String[] args, int i, String option) {
+        if (i >= args.length || args[i].startsWith("--"))
+            exit("Brak wartości dla opcji " + option);
+        return args[i];
+    }
+
+    private static void rejectOptions(Set<String> usedOptions, String mode, String... options) {
+        for (String option : options) {
+            if (usedOptions.contains(option))
+                exit("Opcja " + option + " nie jest obsługiwana w trybie " + mode);
+        }
+    }
+
+    private static void exit(String message) {
+        System.err.println(message);
+        System.exit(1);
+    }
+
+    private static long parseDeadline(String deadline) {
+        long deadlineMillis;
+        try {
+            deadlineMillis = Long.parseLong(deadline);
+        } catch (NumberFormatException e) {
+            deadlineMillis = 0;
+        }
+        if (deadlineMillis <= 0) {
+            System.err.println("Nieprawidłowy limit czasu: " + deadline);
+            System.exit(1);
+        }
+        return deadlineMillis;
+    }
+
+    private static int parseCacheSize(String cacheSize) {
+        int maxEntries;
+        try {
+            maxEntries = Integer.parseInt(cacheSize);
+        } catch (NumberFormatException e) {
+            maxEntries = -1;
+        }
+        if (maxEntries < 0) {
+            System.err.println("Nieprawidłowy rozmiar pamięci podręcznej: " + cacheSize);
+            System.exit(1);
+        }
+        return maxEntries;
+    }
+
+    private static int parseRequestSize(String requestSize) {
+        int maxRequestSize;
+        try {
+            maxRequestSize = Integer.parseInt(requestSize);
+        } catch (NumberFormatException e) {
+            maxRequestSize = 0;
+        }
+        if (maxRequestSize <= 0) {
+            System.err.println("Nieprawidłowy rozmiar żądania: " + requestSize);
+            System.exit(1);
+        }
+        return maxRequestSize;
+    }
+
+    private static void printOptimality(AnytimeResult result) {
+        System.err.println("Rozwiązanie optymalne: " + (result.isOptimal() ? "tak" : "nie"));
+    }
+
+    private static void runServer(String address, SolverOptions options) {
+        SolverMetrics metrics = new SolverMetrics();
+        metrics.register();
+        SolverServer server = new SolverServer(options, metrics);
+        Runtime.getRuntime().addShutdownHook(new Thread(() -> {
+            try {
+                server.close();
+            } catch (IOException e) {
+                System.err.println("Błąd zamykania serwera: " + e.getMessage());
+            }
+        }));
+        try {
+            server.bind(address);
+            System.err.println("Serwer nasłuchuje na " + server.getLocalAddress());
+            server.serve();
+        } catch (IOException | IllegalArgumentException e) {
+            System.err.println("Błąd serwera: " + e.getMessage());
+            System.exit(1);
+        }
+    }
+
+    private static void solveRemotely(String address, List<String> fileNames, String format) {
+        try (SolverClient client = new SolverClient(address)) {
+            for (String fileName : fileNames) {
+                byte[] result = client.solve(format, Files.readAllBytes(Path.of(fileName)));
+                System.out.write(result);
+                System.out.flush();
+            }
+        } catch (NoSuchFileException e) {
+            System.err.println("Nie znaleziono pliku o nazwie " + e.getFile());
+            System.exit(1);
+        } catch (IOException e) {
+            System.err.println("Błąd komunikacji z serwerem: " + e.getMessage());
+            System.exit(1);
+        } catch (SolverServerException | IllegalArgumentException e) {
+            System.err.println(e.getMessage());
+            System.exit(1);
+        }
+    }
+
+    private static void solveOffHeap(String fileName, SolverOptions options, String format, String outputFileName) {
+        ParallelCalculator parallelCalculator = null;
+        if (options.isParallel())
+            parallelCalculator = new ParallelCalculator(ForkJoinPool.commonPool(), options.getParallelThreshold());
+        ResultWriter resultWriter = ResultWriter.forFormat(format);
+        FileManager fileManager = new FileManager(options.isSparse(), options.isExact());
+        try (OffHeapProblem problem = fileManager.readOffHeapProblem(fileName)) {
+            new AuctionSolver(parallelCalculator).solve(new OffHeapAuctionNetwork(problem));
+            ScenarioResult result = problem.getAllocation(fileName);
+            try (OutputBuffer output = outputFileName == null ? OutputBuffer.toStandardOutput() :
+                                                                OutputBuffer.toFile(outputFileName)) {
+                resultWriter.write(result.getProblem(), result.getVaccinesSold(), output);
+            }
+        } catch (IOException e) {
+            System.err.println(outputFileName == null ? "Błąd zapisu wyników" :
+                    "Błąd zapisu do pliku " + outputFileName);
+            System.exit(1);
+        } catch (IdAlreadyExistsException | IllegalArgumentException | InputDataException
+                | InvalidConnectionsException | ParticipantNotInFileException | DataFileException
+                | UnsatisfiableDemandException e) {
+            System.err.println(e.getMessage());
+            System.exit(1);
+        }
+    }
+
+    private static void solvePeriods(List<String> fileNames, SolverOptions options, String format) {
+        ParallelCalculator parallelCalculator = null;
+        if (options.isParallel())
+            parallelCalculator = new ParallelCalculator(ForkJoinPool.commonPool(), options.getParallelThreshold());
+        RollingHorizonSolver rollingHorizonSolver = new RollingHorizonSolver(parallelCalculator);
+        ResultWriter resultWriter = ResultWriter.forFormat(format);
+        try {
+            for (String fileName : fileNames) {
+                FileManager fileManager = new FileManager(options.isSparse(), options.isExact());
+                fileManager.getDataControl().setSupplyCheck(rollingHorizonSolver.getStock() == null);
+                TransportationProblem period = fileManager.readProblem(fileName);
+                ScenarioResult result = rollingHorizonSolver.solvePeriod(fileName, period);
+                System.out.println("=== " + result.getName() + " ===");
+                try (OutputBuffer output = OutputBuffer.toStandardOutput()) {
+                    resultWriter.write(result.getProblem(), result.getVaccinesSold(), output);
+                }
+                long stock = 0;
+                for (int producerStock : rollingHorizonSolver.getStock())
+                    stock += producerStock;
+                System.out.println("Zapas przeniesiony do kolejnego okresu: " + stock);
+                System.out.println();
+            }
+        } catch (IOException e) {
+            System.err.println("Błąd zapisu wyników");
+            System.exit(1);
+        } catch (IdAlreadyExistsException | IllegalArgumentException | InputDataException
+                | InvalidConnectionsException | ParticipantNotInFileException | DataFileException
+                | UnsatisfiableDemandException e) {
+            System.err.println(e.getMessage());
+            System.exit(1);
+        }
+    }
+
+    private static void solveBatch(List<String> fileNames, SolverOptions options, String format) {
+        List<ScenarioResult> results;
+        try (BatchSolver batchSolver = new BatchSolver(options, Runtime.getRuntime().availableProcessors())) {
+            results = batchSolver.solveFiles(fileNames);
+        }
+
+        ResultWriter resultWriter = ResultWriter.forFormat(format);
+        boolean failed = false;
+        for (ScenarioResult result : results) {
+            System.out.println("=== " + result.getName() + " ===");
+            if (result.isSuccessful()) {
+                try (OutputBuffer output = OutputBuffer.toStandardOutput()) {
+                    resultWriter.write(result.getProblem(), result.getVaccinesSold(), output);
+                } catch (IOException e) {
+                    System.err.println("Błąd zapisu wyników");
+                    System.exit(1);
+                }
+            } else {
+                System.err.println(result.getError().getMessage());
+                failed = true;
+            }
+            System.out.println();
+        }
+        if (failed)
+            System.exit(1);
     }
 }
@@ -0,0 +1,99 @@
+package app;
+
+import exception.UnsatisfiableDemandException;
+import model.AnytimeResult;
+import model.TransportationProblem;
+
+public class AnytimeSolver {
+    private ParallelCalculator parallelCalculator;
+    private VAMSolver vamSolver;
+    private SolverMetrics metrics;
+
+    private int[] bestVaccinesSold;
+    private double bestTotalCost;
+
+    public AnytimeSolver(ParallelCalculator parallelCalculator) {
+        this.parallelCalculator = parallelCalculator;
+        vamSolver = new VAMSolver(parallelCalculator);
+    }
+
+    public void setMetrics(SolverMetrics metrics) {
+        this.metrics = metrics;
+    }
+
+    public AnytimeResult solve(TransportationProblem problem, long budgetNanos) {
+        long deadline = System.nanoTime() + budgetNanos;
+        bestVaccinesSold = null;
+        bestTotalCost = Double.POSITIVE_INFINITY;
+
+        update(problem, findNorthWestCornerSolution(problem));
+        if (System.nanoTime() - deadline < 0)
+            update(problem, findVAMSolution(problem, deadline));
+
+        boolean optimal = false;
+        if (bestVaccinesSold == null || System.nanoTime() - deadline < 0) {
+            long start = System.nanoTime();
+            TransportationSimplex simplex = new TransportationSimplex(problem, parallelCalculator);
+            simplex.setDeadline(deadline);
+            int[] vaccinesSold = simplex.optimize(bestVaccinesSold != null ? bestVaccinesSold :
+                                                  new int[problem.getConnectionsCount()]);
+            if (!simplex.isFeasible() && bestVaccinesSold == null) {
+                simplex.clearDeadline();
+                vaccinesSold = simplex.reoptimize();
+            }
+            if (simplex.isFeasible()) {
+                update(problem, vaccinesSold);
+                optimal = simplex.isOptimal();
+            }
+            if (metrics != null)
+                metrics.addPhaseTime(SolverMetrics.Phase.SIMPLEX, System.nanoTime() - start);
+        }
+
+        if (metrics != null)
+            metrics.addSolvedProblem();
+        return new AnytimeResult(bestVaccinesSold, bestTotalCost, optimal);
+    }
+
+    private void update(TransportationProblem problem, int[] vaccinesSold) {
+        if (vaccinesSold == null)
+            return;
+        double totalCost = ProblemSolver.getTotalCost(problem, vaccinesSold);
+        if (totalCost <= bestTotalCost) {
+            bestVaccinesSold = vaccinesSold;
+            bestTotalCost = totalCost;
+        }
+    }
+
+    private int[] findVAMSolution(TransportationProblem problem, long deadline) {
+        try {
+            return vamSolver.solveBefore(problem, deadline);
+        } catch (UnsatisfiableDemandException e) {
+            return null;
+        }
+    }
+
+    private int[] findNorthWestCornerSolution(TransportationProblem problem) {
+        int[] production = problem.getProduction().clone();
+        int[] demand = problem.getDemand();
+        int[] maxVaccines = problem.getMaxVaccines();
+        int[] connectionsProducers = problem.getConnectionsProducers();
+        int[] pharmaciesOffsets = problem.getPharmaciesOffsets();
+        int[] pharmaciesConnections = problem.getPharmaciesConnections();
+        int[] vaccinesSold = new int[problem.getConnectionsCount()];
+
+        for (int pharmacy = 0; pharmacy < problem.getPharmaciesCount(); pharmacy++) {
+            int remainingDemand = demand[pharmacy];
+            for (int i = pharmaciesOffsets[pharmacy]; i < pharmaciesOffsets[pharmacy + 1] && remainingDemand > 0; i++) {
+                int connection = pharmaciesConnections[i];
+                int producer = connectionsProducers[connection];
+                int vaccines = Math.min(remainingDemand, Math.min(maxVaccines[connection], production[producer]));
+                vaccinesSold[connection] = vaccines;
+                production[producer] -= vaccines;
+                remainingDemand -= vaccines;
+            }
+            if (remainingDemand > 0)
+                return null;
+        }
+        return vaccinesSold;
+    }
+}
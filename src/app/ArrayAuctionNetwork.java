@@ -0,0 +1,192 @@
+package app;
+
+import model.TransportationProblem;
+
+public class ArrayAuctionNetwork implements AuctionNetwork {
+    private int producersCount;
+    private int sinksCount;
+    private int connectionsCount;
+    private int[] production;
+    private int[] demand;
+    private long maxCost = 1;
+
+    private int[] connectionsArcs;
+    private int[] producersOffsets;
+    private int[] heads;
+    private int[] capacities;
+    private long[] costs;
+    private int[] flows;
+    private int[] sinksOffsets;
+    private int[] sinksArcs;
+    private int[] sinksTails;
+    private long[] sinksCosts;
+
+    public ArrayAuctionNetwork(TransportationProblem problem) {
+        producersCount = problem.getProducersCount();
+        sinksCount = problem.getPharmaciesCount() + 1;
+        connectionsCount = problem.getConnectionsCount();
+        production = problem.getProduction();
+        demand = problem.getDemand();
+        createProducersArcs(problem);
+        createSinksArcs(problem);
+    }
+
+    private void createProducersArcs(TransportationProblem problem) {
+        int arcsCount = connectionsCount + producersCount;
+        long scale = producersCount + sinksCount + 1;
+        connectionsArcs = new int[connectionsCount];
+        producersOffsets = new int[producersCount + 1];
+        heads = new int[arcsCount];
+        capacities = new int[arcsCount];
+        costs = new long[arcsCount];
+        flows = new int[arcsCount];
+
+        int[] offsets = problem.getProducersOffsets();
+        int[] connections = problem.getProducersConnections();
+        int[] connectionsPharmacies = problem.getConnectionsPharmacies();
+        int[] maxVaccines = problem.getMaxVaccines();
+        double[] prices = problem.getPrices();
+        long[] pricesCents = problem.getPricesCents();
+        long priceScale = pricesCents != null ? 100 : getPriceScale(prices);
+        int arc = 0;
+        for (int producer = 0; producer < producersCount; producer++) {
+            producersOffsets[producer] = arc;
+            for (int i = offsets[producer]; i < offsets[producer + 1]; i++) {
+                int connection = connections[i];
+                long price = pricesCents != null ? pricesCents[connection] :
+                                                   Math.round(prices[connection] * priceScale);
+                connectionsArcs[connection] = arc;
+                heads[arc] = connectionsPharmacies[connection];
+                capacities[arc] = maxVaccines[connection];
+                costs[arc] = Math.multiplyExact(price, scale);
+                maxCost = Math.max(maxCost, costs[arc]);
+                arc++;
+            }
+            heads[arc] = sinksCount - 1;
+            capacities[arc] = production[producer];
+            arc++;
+        }
+        producersOffsets[producersCount] = arc;
+    }
+
+    private long getPriceScale(double[] prices) {
+        long priceScale = 1;
+        for (double price : prices)
+            priceScale = TransportationProblem.getPriceScale(price, priceScale);
+        return priceScale;
+    }
+
+    private void createSinksArcs(TransportationProblem problem) {
+        int pharmaciesCount = sinksCount - 1;
+        int[] offsets = problem.getPharmaciesOffsets();
+        int[] connections = problem.getPharmaciesConnections();
+        int[] connectionsProducers = problem.getConnectionsProducers();
+        sinksOffsets = new int[sinksCount + 1];
+        sinksArcs = new int[connectionsCount + producersCount];
+        sinksTails = new int[connectionsCount + producersCount];
+        sinksCosts = new long[connectionsCount + producersCount];
+        System.arraycopy(offsets, 0, sinksOffsets, 0, pharmaciesCount + 1);
+        for (int i = 0; i < connectionsCount; i++) {
+            sinksArcs[i] = connectionsArcs[connections[i]];
+            sinksTails[i] = connectionsProducers[connections[i]];
+            sinksCosts[i] = costs[sinksArcs[i]];
+        }
+        for (int producer = 0; producer < producersCount; producer++) {
+            sinksArcs[connectionsCount + producer] = producersOffsets[producer + 1] - 1;
+            sinksTails[connectionsCount + producer] = producer;
+        }
+        sinksOffsets[sinksCount] = connectionsCount + producersCount;
+    }
+
+    public int[] getVaccinesSold() {
+        int[] vaccinesSold = new int[connectionsCount];
+        for (int connection = 0; connection < connectionsCount; connection++)
+            vaccinesSold[connection] = flows[connectionsArcs[connection]];
+        return vaccinesSold;
+    }
+
+    @Override
+    public int getProducersCount() {
+        return producersCount;
+    }
+
+    @Override
+    public int getSinksCount() {
+        return sinksCount;
+    }
+
+    @Override
+    public int[] getProduction() {
+        return production;
+    }
+
+    @Override
+    public int[] getDemand() {
+        return demand;
+    }
+
+    @Override
+    public long getMaxCost() {
+        return maxCost;
+    }
+
+    @Override
+    public long getProducerArcsStart(int producer) {
+        return producersOffsets[producer];
+    }
+
+    @Override
+    public long getProducerArcsEnd(int producer) {
+        return producersOffsets[producer + 1];
+    }
+
+    @Override
+    public int getHead(long arc) {
+        return heads[(int) arc];
+    }
+
+    @Override
+    public long getSinkArcsStart(int sink) {
+        return sinksOffsets[sink];
+    }
+
+    @Override
+    public long getSinkArcsEnd(int sink) {
+        return sinksOffsets[sink + 1];
+    }
+
+    @Override
+    public long getSinkArc(long position) {
+        return sinksArcs[(int) position];
+    }
+
+    @Override
+    public int getTail(long position) {
+        return sinksTails[(int) position];
+    }
+
+    @Override
+    public long getSinkCost(long position) {
+        return sinksCosts[(int) position];
+    }
+
+    @Override
+    public long getCost(long arc) {
+        return costs[(int) arc];
+    }
+
+    @Override
+    public int getCapacity(long arc) {
+        return capacities[(int) arc];
+    }
+
+    @Override
+    public int getFlow(long arc) {
+        return flows[(int) arc];
+    }
+
+    @Override
+    public void setFlow(long arc, int flow) {
+        flows[(int) arc] = flow;
+    }
+}
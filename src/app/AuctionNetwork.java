@@ -0,0 +1,37 @@
+package app;
+
+public interface AuctionNetwork {
+    int getProducersCount();
+
+    int getSinksCount();
+
+    int[] getProduction();
+
+    int[] getDemand();
+
+    long getMaxCost();
+
+    long getProducerArcsStart(int producer);
+
+    long getProducerArcsEnd(int producer);
+
+    int getHead(long arc);
+
+    long getSinkArcsStart(int sink);
+
+    long getSinkArcsEnd(int sink);
+
+    long getSinkArc(long position);
+
+    int getTail(long position);
+
+    long getSinkCost(long position);
+
+    long getCost(long arc);
+
+    int getCapacity(long arc);
+
+    int getFlow(long arc);
+
+    void setFlow(long arc, int flow);
+}
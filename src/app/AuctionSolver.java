@@ -0,0 +1,244 @@
+package app;
+
+import exception.UnsatisfiableDemandException;
+import model.TransportationProblem;
+
+import java.util.concurrent.atomic.AtomicLongArray;
+
+public class AuctionSolver implements TransportationSolver {
+    private static final long ALPHA = 4;
+
+    private ParallelCalculator parallelCalculator;
+    private ParallelCalculator.RangeAction producersBidding = this::bidProducers;
+    private ParallelCalculator.RangeAction pharmaciesBidding = this::bidPharmacies;
+
+    private AuctionNetwork network;
+    private int producersCount;
+    private int sinksCount;
+    private int[] production;
+    private long[] sinksDemand;
+
+    private long[] producersPrices;
+    private long[] sinksPrices;
+    private long[] producersCurrentArcs;
+    private long[] sinksCurrentArcs;
+    private AtomicLongArray producersExcess;
+    private AtomicLongArray sinksExcess;
+    private long epsilon;
+    private long minPrice;
+
+    public AuctionSolver() {
+    }
+
+    public AuctionSolver(ParallelCalculator parallelCalculator) {
+        this.parallelCalculator = parallelCalculator;
+    }
+
+    @Override
+    public int[] solve(TransportationProblem problem) {
+        ArrayAuctionNetwork network = new ArrayAuctionNetwork(problem);
+        solve(network);
+        return network.getVaccinesSold();
+    }
+
+    public void solve(AuctionNetwork network) {
+        long maxCost = initialize(network);
+        epsilon = maxCost;
+        do {
+            epsilon = Math.max(1, epsilon / ALPHA);
+            refine();
+        } while (epsilon > 1);
+    }
+
+    private long initialize(AuctionNetwork network) {
+        this.network = network;
+        producersCount = network.getProducersCount();
+        sinksCount = network.getSinksCount();
+        production = network.getProduction();
+
+        int pharmaciesCount = sinksCount - 1;
+        sinksDemand = new long[sinksCount];
+        long surplus = 0;
+        for (int producer = 0; producer < producersCount; producer++)
+            surplus += production[producer];
+        for (int pharmacy = 0; pharmacy < pharmaciesCount; pharmacy++) {
+            sinksDemand[pharmacy] = network.getDemand()[pharmacy];
+            surplus -= sinksDemand[pharmacy];
+        }
+        if (surplus < 0)
+            throw new UnsatisfiableDemandException("Nie można zaspokoić zapotrzebowania wszystkich aptek " +
+                    "przy podanych połączeniach!");
+        sinksDemand[pharmaciesCount] = surplus;
+
+        producersPrices = new long[producersCount];
+        sinksPrices = new long[sinksCount];
+        producersCurrentArcs = new long[producersCount];
+        sinksCurrentArcs = new long[sinksCount];
+        producersExcess = new AtomicLongArray(producersCount);
+        sinksExcess = new AtomicLongArray(sinksCount);
+
+        long maxCost = network.getMaxCost();
+        double priceBound = 2.0 * (ALPHA + 2) * (producersCount + sinksCount) * maxCost;
+        if (priceBound > Long.MAX_VALUE / 4.0)
+            throw new IllegalArgumentException("Ceny połączeń są zbyt duże dla algorytmu aukcyjnego!");
+        minPrice = -(long) priceBound;
+        return maxCost;
+    }
+
+    private void refine() {
+        long[] outflows = new long[producersCount];
+        long[] inflows = new long[sinksCount];
+        for (int producer = 0; producer < producersCount; producer++) {
+            long end = network.getProducerArcsEnd(producer);
+            for (long arc = network.getProducerArcsStart(producer); arc < end; arc++) {
+                int head = network.getHead(arc);
+                long reducedCost = network.getCost(arc) + producersPrices[producer] - sinksPrices[head];
+                int flow = network.getFlow(arc);
+                if (reducedCost < 0 && flow != network.getCapacity(arc)) {
+                    flow = network.getCapacity(arc);
+                    network.setFlow(arc, flow);
+                } else if (reducedCost > 0 && flow != 0) {
+                    flow = 0;
+                    network.setFlow(arc, flow);
+                }
+                outflows[producer] += flow;
+                inflows[head] += flow;
+            }
+        }
+
+        boolean active = false;
+        for (int producer = 0; producer < producersCount; producer++) {
+            producersExcess.set(producer, production[producer] - outflows[producer]);
+            producersCurrentArcs[producer] = network.getProducerArcsStart(producer);
+            active |= producersExcess.get(producer) > 0;
+        }
+        for (int sink = 0; sink < sinksCount; sink++) {
+            sinksExcess.set(sink, inflows[sink] - sinksDemand[sink]);
+            sinksCurrentArcs[sink] = network.getSinkArcsStart(sink);
+            active |= sinksExcess.get(sink) > 0;
+        }
+
+        while (active) {
+            forEachRange(producersCount, producersBidding);
+            forEachRange(sinksCount, pharmaciesBidding);
+            active = false;
+            for (int producer = 0; producer < producersCount && !active; producer++)
+                active = producersExcess.get(producer) > 0;
+        }
+    }
+
+    private void forEachRange(int count, ParallelCalculator.RangeAction action) {
+        if (parallelCalculator != null)
+            parallelCalculator.forEachRange(0, count, action);
+        else
+            action.compute(0, count);
+    }
+
+    private void bidProducers(int from, int to) {
+        for (int producer = from; producer < to; producer++) {
+            if (producersExcess.get(producer) > 0)
+                dischargeProducer(producer);
+        }
+    }
+
+    private void bidPharmacies(int from, int to) {
+        for (int sink = from; sink < to; sink++) {
+            if (sinksExcess.get(sink) > 0)
+                dischargeSink(sink);
+        }
+    }
+
+    private void dischargeProducer(int producer) {
+        long excess = producersExcess.get(producer);
+        long price = producersPrices[producer];
+        long end = network.getProducerArcsEnd(producer);
+        long arc = producersCurrentArcs[producer];
+        while (excess > 0) {
+            if (arc == end) {
+                arc = relabelProducer(producer);
+                price = producersPrices[producer];
+            }
+            int flow = network.getFlow(arc);
+            int residual = network.getCapacity(arc) - flow;
+            if (residual > 0 && network.getCost(arc) + price - sinksPrices[network.getHead(arc)] < 0) {
+                int delta = (int) Math.min(excess, residual);
+                network.setFlow(arc, flow + delta);
+                excess -= delta;
+                sinksExcess.addAndGet(network.getHead(arc), delta);
+                if (delta < residual)
+                    continue;
+            }
+            arc++;
+        }
+        producersCurrentArcs[producer] = arc;
+        producersExcess.set(producer, 0);
+    }
+
+    private long relabelProducer(int producer) {
+        long best = Long.MIN_VALUE;
+        long bestArc = -1;
+        long end = network.getProducerArcsEnd(producer);
+        for (long arc = network.getProducerArcsStart(producer); arc < end; arc++) {
+            if (network.getFlow(arc) < network.getCapacity(arc)) {
+                long value = sinksPrices[network.getHead(arc)] - network.getCost(arc);
+                if (value > best) {
+                    best = value;
+                    bestArc = arc;
+                }
+            }
+        }
+        producersPrices[producer] = checkPrice(best - epsilon);
+        return bestArc;
+    }
+
+    private void dischargeSink(int sink) {
+        long excess = sinksExcess.get(sink);
+        long price = sinksPrices[sink];
+        long end = network.getSinkArcsEnd(sink);
+        long position = sinksCurrentArcs[sink];
+        while (excess > 0) {
+            if (position == end) {
+                position = relabelSink(sink);
+                price = sinksPrices[sink];
+            }
+            long arc = network.getSinkArc(position);
+            int tail = network.getTail(position);
+            int residual = network.getFlow(arc);
+            if (residual > 0 && price - producersPrices[tail] - network.getSinkCost(position) < 0) {
+                int delta = (int) Math.min(excess, residual);
+                network.setFlow(arc, residual - delta);
+                excess -= delta;
+                producersExcess.addAndGet(tail, delta);
+                if (delta < residual)
+                    continue;
+            }
+            position++;
+        }
+        sinksCurrentArcs[sink] = position;
+        sinksExcess.set(sink, 0);
+    }
+
+    private long relabelSink(int sink) {
+        long best = Long.MIN_VALUE;
+        long bestPosition = -1;
+        long end = network.getSinkArcsEnd(sink);
+        for (long position = network.getSinkArcsStart(sink); position < end; position++) {
+            if (network.getFlow(network.getSinkArc(position)) > 0) {
+                long value = producersPrices[network.getTail(position)] + network.getSinkCost(position);
+                if (value > best) {
+                    best = value;
+                    bestPosition = position;
+                }
+            }
+        }
+        sinksPrices[sink] = checkPrice(best - epsilon);
+        return bestPosition;
+    }
+
+    private long checkPrice(long price) {
+        if (price < minPrice)
+            throw new UnsatisfiableDemandException("Nie można zaspokoić zapotrzebowania wszystkich aptek " +
+                    "przy podanych połączeniach!");
+        return price;
+    }
+}
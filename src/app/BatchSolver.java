@@ -0,0 +1,81 @@
+package app;
+
+import io.FileManager;
+import model.ScenarioResult;
+import model.TransportationProblem;
+
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.Future;
+
+public class BatchSolver implements AutoCloseable {
+    private SolverOptions options;
+    private ParallelCalculator parallelCalculator;
+    private ResultCache resultCache;
+    private ExecutorService executor;
+
+    public BatchSolver(SolverOptions options, int threads) {
+        this.options = options;
+        if (options.isParallel())
+            parallelCalculator = new ParallelCalculator(ForkJoinPool.commonPool(), options.getParallelThreshold());
+        if (options.getCacheSize() > 0 || options.getCacheDirectory() != null)
+            resultCache = new ResultCache(options.getCacheSize(),
+                    options.getCacheDirectory() == null ? null : Path.of(options.getCacheDirectory()));
+        executor = Executors.newFixedThreadPool(Math.max(1, threads));
+    }
+
+    public List<ScenarioResult> solveFiles(List<String> fileNames) {
+        List<Callable<ScenarioResult>> tasks = new ArrayList<>(fileNames.size());
+        for (String fileName : fileNames)
+            tasks.add(() -> solveScenario(fileName, null));
+        return invokeAll(tasks);
+    }
+
+    public List<ScenarioResult> solveProblems(List<String> names, List<TransportationProblem> problems) {
+        List<Callable<ScenarioResult>> tasks = new ArrayList<>(problems.size());
+        for (int i = 0; i < problems.size(); i++) {
+            String name = names.get(i);
+            TransportationProblem problem = problems.get(i);
+            tasks.add(() -> solveScenario(name, problem));
+        }
+        return invokeAll(tasks);
+    }
+
+    private ScenarioResult solveScenario(String name, TransportationProblem problem) {
+        try {
+            if (problem == null)
+                problem = new FileManager(options.isSparse(), options.isExact()).readProblem(name);
+
+            ProblemSolver problemSolver = new ProblemSolver(options, parallelCalculator, resultCache);
+            int[] vaccinesSold = problemSolver.solve(problem);
+            return new ScenarioResult(name, problem, vaccinesSold, ProblemSolver.getTotalCost(problem, vaccinesSold));
+        } catch (RuntimeException e) {
+            return new ScenarioResult(name, e);
+        }
+    }
+
+    private List<ScenarioResult> invokeAll(List<Callable<ScenarioResult>> tasks) {
+        List<ScenarioResult> results = new ArrayList<>(tasks.size());
+        try {
+            for (Future<ScenarioResult> future : executor.invokeAll(tasks))
+                results.add(future.get());
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException("Przerwano rozwiązywanie scenariuszy", e);
+        } catch (ExecutionException e) {
+            throw new IllegalStateException("Błąd podczas rozwiązywania scenariusza", e.getCause());
+        }
+        return results;
+    }
+
+    @Override
+    public void close() {
+        executor.shutdown();
+    }
+}
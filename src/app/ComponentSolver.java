@@ -0,0 +1,260 @@
+package app;
+
+import exception.UnsatisfiableDemandException;
+import model.TransportationProblem;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.Future;
+
+public class ComponentSolver {
+    private SolverOptions options;
+    private ParallelCalculator parallelCalculator;
+    private SolverMetrics metrics;
+    private ForkJoinPool pool;
+
+    private int[] parents;
+    private int[] sizes;
+    private int componentsCount;
+
+    public ComponentSolver(SolverOptions options, ParallelCalculator parallelCalculator, ForkJoinPool pool) {
+        this.options = options;
+        this.parallelCalculator = parallelCalculator;
+        this.pool = pool;
+    }
+
+    public void setMetrics(SolverMetrics metrics) {
+        this.metrics = metrics;
+    }
+
+    public int getComponentsCount() {
+        return componentsCount;
+    }
+
+    public int[] solve(TransportationProblem problem) {
+        int[] components = findComponents(problem);
+        if (componentsCount == 1)
+            return createSolver().solveComponent(problem);
+
+        List<Component> subproblems = createComponents(problem, components);
+        subproblems.sort(Comparator.comparingInt((Component component) -> component.connections.length).reversed());
+
+        List<Callable<int[]>> tasks = new ArrayList<>(subproblems.size());
+        for (Component component : subproblems)
+            tasks.add(() -> createSolver().solveComponent(component.problem));
+
+        int[] vaccinesSold = new int[problem.getConnectionsCount()];
+        try {
+            List<Future<int[]>> results = pool.invokeAll(tasks);
+            for (int i = 0; i < results.size(); i++) {
+                int[] componentVaccinesSold = results.get(i).get();
+                int[] connections = subproblems.get(i).connections;
+                for (int j = 0; j < connections.length; j++)
+                    vaccinesSold[connections[j]] = componentVaccinesSold[j];
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException("Przerwano rozwiązywanie składowych problemu", e);
+        } catch (ExecutionException e) {
+            if (e.getCause() instanceof RuntimeException)
+                throw (RuntimeException) e.getCause();
+            throw new IllegalStateException("Błąd podczas rozwiązywania składowej problemu", e.getCause());
+        }
+        return vaccinesSold;
+    }
+
+    private ProblemSolver createSolver() {
+        ProblemSolver problemSolver = new ProblemSolver(options, parallelCalculator);
+        problemSolver.setMetrics(metrics);
+        return problemSolver;
+    }
+
+    private int[] findComponents(TransportationProblem problem) {
+        int producersCount = problem.getProducersCount();
+        int nodesCount = producersCount + problem.getPharmaciesCount();
+        parents = new int[nodesCount];
+        sizes = new int[nodesCount];
+        for (int node = 0; node < nodesCount; node++) {
+            parents[node] = node;
+            sizes[node] = 1;
+        }
+
+        int[] connectionsProducers = problem.getConnectionsProducers();
+        int[] connectionsPharmacies = problem.getConnectionsPharmacies();
+        int[] maxVaccines = problem.getMaxVaccines();
+        for (int connection = 0; connection < connectionsProducers.length; connection++) {
+            if (maxVaccines[connection] > 0)
+                union(connectionsProducers[connection], producersCount + connectionsPharmacies[connection]);
+        }
+
+        int[] components = new int[nodesCount];
+        int[] rootsComponents = new int[nodesCount];
+        componentsCount = 0;
+        for (int node = 0; node < nodesCount; node++) {
+            int root = find(node);
+            if (root == node)
+                rootsComponents[root] = componentsCount++;
+        }
+        for (int node = 0; node < nodesCount; node++)
+            components[node] = rootsComponents[find(node)];
+
+        parents = null;
+        sizes = null;
+        return components;
+    }
+
+    private int find(int node) {
+        while (parents[node] != node) {
+            parents[node] = parents[parents[node]];
+            node = parents[node];
+        }
+        return node;
+    }
+
+    private void union(int first, int second) {
+        first = find(first);
+        second = find(second);
+        if (first == second)
+            return;
+        if (sizes[first] < sizes[second]) {
+            int swap = first;
+            first = second;
+            second = swap;
+        }
+        parents[second] = first;
+        sizes[first] += sizes[second];
+    }
+
+    private List<Component> createComponents(TransportationProblem problem, int[] components) {
+        int producersCount = problem.getProducersCount();
+        int pharmaciesCount = problem.getPharmaciesCount();
+        int[] maxVaccines = problem.getMaxVaccines();
+        int[] pharmaciesOffsets = problem.getPharmaciesOffsets();
+        int[] pharmaciesConnections = problem.getPharmaciesConnections();
+
+        int[] producersCounts = new int[componentsCount];
+        int[] pharmaciesCounts = new int[componentsCount];
+        int[] connectionsCounts = new int[componentsCount];
+        for (int producer = 0; producer < producersCount; producer++)
+            producersCounts[components[producer]]++;
+        for (int pharmacy = 0; pharmacy < pharmaciesCount; pharmacy++) {
+            int component = components[producersCount + pharmacy];
+            pharmaciesCounts[component]++;
+            for (int i = pharmaciesOffsets[pharmacy]; i < pharmaciesOffsets[pharmacy + 1]; i++)
+                if (maxVaccines[pharmaciesConnections[i]] > 0)
+                    connectionsCounts[component]++;
+        }
+
+        Component[] builders = new Component[componentsCount];
+        for (int component = 0; component < componentsCount; component++)
+            builders[component] = new Component(producersCounts[component], pharmaciesCounts[component],
+                    connectionsCounts[component], problem.isExact());
+
+        int[] localOrdinals = new int[producersCount + pharmaciesCount];
+        for (int producer = 0; producer < producersCount; producer++)
+            localOrdinals[producer] = builders[components[producer]].addProducer(problem, producer);
+        for (int pharmacy = 0; pharmacy < pharmaciesCount; pharmacy++)
+            localOrdinals[producersCount + pharmacy] = builders[components[producersCount + pharmacy]]
+                    .addPharmacy(problem, pharmacy);
+
+        int[] connectionsProducers = problem.getConnectionsProducers();
+        for (int pharmacy = 0; pharmacy < pharmaciesCount; pharmacy++) {
+            Component component = builders[components[producersCount + pharmacy]];
+            for (int i = pharmaciesOffsets[pharmacy]; i < pharmaciesOffsets[pharmacy + 1]; i++) {
+                int connection = pharmaciesConnections[i];
+                if (maxVaccines[connection] > 0)
+                    component.addConnection(problem, connection, localOrdinals[connectionsProducers[connection]],
+                            localOrdinals[producersCount + pharmacy]);
+            }
+        }
+
+        List<Component> subproblems = new ArrayList<>(componentsCount);
+        for (Component component : builders) {
+            if (component.connections.length > 0) {
+                component.createProblem();
+                subproblems.add(component);
+            } else {
+                component.checkDemand();
+            }
+        }
+        return subproblems;
+    }
+
+    private static class Component {
+        private int[] producersIds;
+        private String[] producersNames;
+        private int[] production;
+        private int producersCount;
+        private int[] pharmaciesIds;
+        private String[] pharmaciesNames;
+        private int[] demand;
+        private int pharmaciesCount;
+        private int[] connections;
+        private int[] connectionsProducers;
+        private int[] connectionsPharmacies;
+        private int[] maxVaccines;
+        private double[] prices;
+        private long[] pricesCents;
+        private int connectionsCount;
+        private TransportationProblem problem;
+
+        private Component(int producersCount, int pharmaciesCount, int connectionsCount, boolean exact) {
+            producersIds = new int[producersCount];
+            producersNames = new String[producersCount];
+            production = new int[producersCount];
+            pharmaciesIds = new int[pharmaciesCount];
+            pharmaciesNames = new String[pharmaciesCount];
+            demand = new int[pharmaciesCount];
+            connections = new int[connectionsCount];
+            connectionsProducers = new int[connectionsCount];
+            connectionsPharmacies = new int[connectionsCount];
+            maxVaccines = new int[connectionsCount];
+            prices = new double[connectionsCount];
+            if (exact)
+                pricesCents = new long[connectionsCount];
+        }
+
+        private int addProducer(TransportationProblem problem, int producer) {
+            producersIds[producersCount] = problem.getProducersIds()[producer];
+            producersNames[producersCount] = problem.getProducersNames()[producer];
+            production[producersCount] = problem.getProduction()[producer];
+            return producersCount++;
+        }
+
+        private int addPharmacy(TransportationProblem problem, int pharmacy) {
+            pharmaciesIds[pharmaciesCount] = problem.getPharmaciesIds()[pharmacy];
+            pharmaciesNames[pharmaciesCount] = problem.getPharmaciesNames()[pharmacy];
+            demand[pharmaciesCount] = problem.getDemand()[pharmacy];
+            return pharmaciesCount++;
+        }
+
+        private void addConnection(TransportationProblem problem, int connection, int producer, int pharmacy) {
+            connections[connectionsCount] = connection;
+            connectionsProducers[connectionsCount] = producer;
+            connectionsPharmacies[connectionsCount] = pharmacy;
+            maxVaccines[connectionsCount] = problem.getMaxVaccines()[connection];
+            prices[connectionsCount] = problem.getPrices()[connection];
+            if (pricesCents != null)
+                pricesCents[connectionsCount] = problem.getPricesCents()[connection];
+            connectionsCount++;
+        }
+
+        private void createProblem() {
+            problem = new TransportationProblem(producersIds, producersNames, production, pharmaciesIds,
+                    pharmaciesNames, demand, connectionsProducers, connectionsPharmacies, maxVaccines, prices,
+                    pricesCents);
+        }
+
+        private void checkDemand() {
+            for (int pharmacy = 0; pharmacy < pharmaciesCount; pharmacy++) {
+                if (demand[pharmacy] > 0)
+                    throw new UnsatisfiableDemandException("Nie można zaspokoić zapotrzebowania apteki o numerze id "
+                            + pharmaciesIds[pharmacy] + " - wszystkie jej połączenia zostały wyczerpane!");
+            }
+        }
+    }
+}
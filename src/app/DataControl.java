@@ -1,69 +1,69 @@
 package app;
 
 import exception.InvalidConnectionsException;
-import model.Connection;
-import model.Pharmacy;
-import model.Producer;
 
 import java.util.ArrayList;
 import java.util.List;
 
 public class DataControl {
-    public int maxVaccinesLessThanPharmacyDemand(List<Pharmacy> pharmacies, List<Connection> connections) {
-        for (Pharmacy pharmacy : pharmacies) {
-            int pharmacyIdToCheck = pharmacy.getId();
-            int maxVaccinesForGivenPharmacy = connections.stream().
-                    filter(connection -> connection.getPharmacy().getId() == pharmacyIdToCheck).
-                    mapToInt(Connection::getMaxVaccines).sum();
+    private long[] pharmaciesCapacities;
+    private boolean supplyCheck = true;
 
-            if (maxVaccinesForGivenPharmacy < pharmacy.getDemand())
-                return pharmacyIdToCheck;
-        }
-        return -1;
+    public void setSupplyCheck(boolean supplyCheck) {
+        this.supplyCheck = supplyCheck;
     }
 
-    public Producer getProducerById(List<Producer> producers, int id, int line) {
-        for (Producer producer: producers) {
-            if (producer.getId() == id)
-                return producer;
-        }
-
-        throw new InvalidConnectionsException("W połączeniach znajduje się id producenta, które nie istnieje " +
-                "w podanych producentach! Błąd w linijce " + line);
+    public void startConnectionsValidation(int pharmaciesCount) {
+        pharmaciesCapacities = new long[pharmaciesCount];
     }
 
-    public Pharmacy getPharmacyById(List<Pharmacy> pharmacies, int id, int line) {
-        for (Pharmacy pharmacy: pharmacies) {
-            if (pharmacy.getId() == id)
-                return pharmacy;
-        }
+    public void addConnectionCapacity(int pharmacy, int maxVaccines) {
+        pharmaciesCapacities[pharmacy] += maxVaccines;
+    }
 
-        throw new InvalidConnectionsException("W połączeniach znajduje się id apteki, która nie istnieje " +
-                "w podanych aptekach! Błąd w linijce " + line);
+    public void addConnectionsCapacities(int[] connectionsPharmacies, int[] maxVaccines) {
+        for (int i = 0; i < connectionsPharmacies.length; i++)
+            pharmaciesCapacities[connectionsPharmacies[i]] += maxVaccines[i];
     }
 
-    public boolean supplyGreaterOrEqualToDemand(List<Producer> producers, List<Pharmacy> pharmacies) {
-        int supply = producers.stream().mapToInt(Producer::getProduction).sum();
-        int demand = pharmacies.stream().mapToInt(Pharmacy::getDemand).sum();
+    public List<String> findViolations(int[] production, int[] demand, int[] pharmaciesIds, int[] pharmaciesOrder) {
+        List<String> violations = new ArrayList<>();
+        if (supplyCheck && !supplyGreaterOrEqualToDemand(production, demand))
+            violations.add("Liczba szczepionek produkowanych przez producentów nie może być mniejsza od " +
+                    "zapotrzebowania aptek!");
 
-        return supply >= demand;
+        for (int pharmacy : pharmaciesOrder) {
+            if (pharmaciesCapacities[pharmacy] < demand[pharmacy])
+                violations.add("Maksymalna ilość szczepionek, która może zostać dostarczona do apteki " +
+                        "o numerze id " + pharmaciesIds[pharmacy] + " jest mniejsza od jej zapotrzebowania!");
+        }
+        return violations;
     }
 
-    public List<Connection> getConnectionsOfGivenProducerId(List<Connection> connections, int producerId) {
-        List<Connection> producerConnections = new ArrayList<>();
-        for (Connection connection : connections)
-            if (connection.getProducer().getId() == producerId)
-                producerConnections.add(connection);
+    public int getProducerOrdinal(IntIntHashMap producersOrdinals, int id, int line) {
+        int ordinal = producersOrdinals.get(id);
+        if (ordinal == -1)
+            throw new InvalidConnectionsException("W połączeniach znajduje się id producenta, które nie istnieje " +
+                    "w podanych producentach! Błąd w linijce " + line);
+        return ordinal;
+    }
 
-        return producerConnections;
+    public int getPharmacyOrdinal(IntIntHashMap pharmaciesOrdinals, int id, int line) {
+        int ordinal = pharmaciesOrdinals.get(id);
+        if (ordinal == -1)
+            throw new InvalidConnectionsException("W połączeniach znajduje się id apteki, która nie istnieje " +
+                    "w podanych aptekach! Błąd w linijce " + line);
+        return ordinal;
     }
 
-    public List<Connection> getConnectionsOfGivenPharmacyId(List<Connection> connections, int pharmacyId) {
-        List<Connection> pharmacyConnections = new ArrayList<>();
-        for (Connection connection : connections)
-            if (connection.getPharmacy().getId() == pharmacyId)
-                pharmacyConnections.add(connection);
+    public boolean supplyGreaterOrEqualToDemand(int[] production, int[] demand) {
+        long supply = 0;
+        for (int producerProduction : production)
+            supply += producerProduction;
+        long totalDemand = 0;
+        for (int pharmacyDemand : demand)
+            totalDemand += pharmacyDemand;
 
-        return pharmacyConnections;
+        return supply >= totalDemand;
     }
 }
@@ -0,0 +1,149 @@
+package app;
+
+import exception.InvalidConnectionsException;
+import model.ProblemDelta;
+import model.TransportationProblem;
+
+import java.util.Arrays;
+import java.util.List;
+
+public class DeltaSolver {
+    private TransportationProblem problem;
+    private int[] vaccinesSold;
+    private ParallelCalculator parallelCalculator;
+    private TransportationSimplex simplex;
+
+    public DeltaSolver(TransportationProblem problem, int[] vaccinesSold) {
+        this(problem, vaccinesSold, null);
+    }
+
+    public DeltaSolver(TransportationProblem problem, int[] vaccinesSold, ParallelCalculator parallelCalculator) {
+        this.problem = problem;
+        this.vaccinesSold = vaccinesSold;
+        this.parallelCalculator = parallelCalculator;
+    }
+
+    public TransportationProblem getProblem() {
+        return problem;
+    }
+
+    public int[] getVaccinesSold() {
+        return vaccinesSold;
+    }
+
+    public int[] apply(ProblemDelta delta) {
+        int[] pricesConnections = getConnections(delta.getPricesChanges(), "ceny");
+        int[] maxVaccinesConnections = getConnections(delta.getMaxVaccinesChanges(), "przepustowości");
+        int[] producers = getOrdinals(problem.getProducersIds(), delta.getProductionChanges(), "producenta");
+        int[] pharmacies = getOrdinals(problem.getPharmaciesIds(), delta.getDemandChanges(), "apteki");
+        if (delta.isEmpty())
+            return vaccinesSold;
+        if (problem.isExact()) {
+            for (ProblemDelta.ConnectionChange change : delta.getPricesChanges())
+                TransportationProblem.toCents(change.getValue());
+        }
+
+        if (simplex == null) {
+            simplex = new TransportationSimplex(problem, parallelCalculator);
+            simplex.optimize(vaccinesSold);
+        }
+
+        double[] prices = problem.getPrices();
+        long[] pricesCents = problem.getPricesCents();
+        if (pricesConnections.length > 0) {
+            prices = prices.clone();
+            if (pricesCents != null)
+                pricesCents = pricesCents.clone();
+        }
+        for (int i = 0; i < pricesConnections.length; i++) {
+            int connection = pricesConnections[i];
+            prices[connection] = delta.getPricesChanges().get(i).getValue();
+            if (pricesCents != null) {
+                pricesCents[connection] = TransportationProblem.toCents(prices[connection]);
+                simplex.changePrice(connection, pricesCents[connection]);
+            } else {
+                simplex.changePrice(connection, prices[connection]);
+            }
+        }
+
+        int[] maxVaccines = problem.getMaxVaccines();
+        if (maxVaccinesConnections.length > 0)
+            maxVaccines = maxVaccines.clone();
+        for (int i = 0; i < maxVaccinesConnections.length; i++) {
+            maxVaccines[maxVaccinesConnections[i]] = (int) delta.getMaxVaccinesChanges().get(i).getValue();
+            simplex.changeMaxVaccines(maxVaccinesConnections[i], maxVaccines[maxVaccinesConnections[i]]);
+        }
+
+        int[] production = problem.getProduction();
+        if (producers.length > 0)
+            production = production.clone();
+        for (int i = 0; i < producers.length; i++) {
+            production[producers[i]] = delta.getProductionChanges().get(i).getValue();
+            simplex.changeProduction(producers[i], production[producers[i]]);
+        }
+
+        int[] demand = problem.getDemand();
+        if (pharmacies.length > 0)
+            demand = demand.clone();
+        for (int i = 0; i < pharmacies.length; i++) {
+            demand[pharmacies[i]] = delta.getDemandChanges().get(i).getValue();
+            simplex.changeDemand(pharmacies[i], demand[pharmacies[i]]);
+        }
+
+        TransportationProblem changedProblem = new TransportationProblem(problem, production, demand, maxVaccines,
+                prices, pricesCents);
+        try {
+            vaccinesSold = simplex.reoptimize();
+        } catch (RuntimeException e) {
+            simplex = null;
+            throw e;
+        }
+        problem = changedProblem;
+        return vaccinesSold;
+    }
+
+    private int[] getConnections(List<ProblemDelta.ConnectionChange> changes, String attribute) {
+        int[] connections = new int[changes.size()];
+        for (int i = 0; i < connections.length; i++) {
+            ProblemDelta.ConnectionChange change = changes.get(i);
+            if (change.getValue() < 0)
+                throw new IllegalArgumentException("Wartości liczbowe nie mogą być ujemne! Błędna wartość " +
+                        attribute + " połączenia " + change.getProducerId() + " -> " + change.getPharmacyId());
+            connections[i] = getConnection(change);
+        }
+        return connections;
+    }
+
+    private int getConnection(ProblemDelta.ConnectionChange change) {
+        int producer = getOrdinal(problem.getProducersIds(), change.getProducerId(), "producenta");
+        int pharmacy = getOrdinal(problem.getPharmaciesIds(), change.getPharmacyId(), "apteki");
+        int[] producersOffsets = problem.getProducersOffsets();
+        int[] producersConnections = problem.getProducersConnections();
+        for (int i = producersOffsets[producer]; i < producersOffsets[producer + 1]; i++) {
+            if (problem.getConnectionsPharmacies()[producersConnections[i]] == pharmacy)
+                return producersConnections[i];
+        }
+
+        throw new InvalidConnectionsException("Brak połączenia między producentem o numerze id " +
+                change.getProducerId() + " a apteką o numerze id " + change.getPharmacyId());
+    }
+
+    private int[] getOrdinals(int[] ids, List<ProblemDelta.ParticipantChange> changes, String participant) {
+        int[] ordinals = new int[changes.size()];
+        for (int i = 0; i < ordinals.length; i++) {
+            ProblemDelta.ParticipantChange change = changes.get(i);
+            if (change.getValue() < 0)
+                throw new IllegalArgumentException("Wartości liczbowe nie mogą być ujemne! Błędna wartość dla " +
+                        participant + " o numerze id " + change.getId());
+            ordinals[i] = getOrdinal(ids, change.getId(), participant);
+        }
+        return ordinals;
+    }
+
+    private int getOrdinal(int[] ids, int id, String participant) {
+        int ordinal = Arrays.binarySearch(ids, id);
+        if (ordinal < 0)
+            throw new InvalidConnectionsException("Nie znaleziono " + participant + " o numerze id " + id);
+        return ordinal;
+    }
+}
@@ -0,0 +1,104 @@
+package app;
+
+import java.util.Arrays;
+
+public class IndexedMaxHeap {
+    private double[] keys;
+    private int[] heap;
+    private int[] positions;
+    private int size;
+
+    public IndexedMaxHeap(int capacity) {
+        keys = new double[capacity];
+        heap = new int[capacity];
+        positions = new int[capacity];
+        Arrays.fill(positions, -1);
+        size = 0;
+    }
+
+    public boolean isEmpty() {
+        return size == 0;
+    }
+
+    public boolean contains(int index) {
+        return positions[index] != -1;
+    }
+
+    public int peek() {
+        return heap[0];
+    }
+
+    public double peekKey() {
+        return keys[heap[0]];
+    }
+
+    public void set(int index, double key) {
+        if (!contains(index)) {
+            keys[index] = key;
+            heap[size] = index;
+            positions[index] = size;
+            siftUp(size++);
+        } else if (key != keys[index]) {
+            double oldKey = keys[index];
+            keys[index] = key;
+            if (key > oldKey)
+                siftUp(positions[index]);
+            else
+                siftDown(positions[index]);
+        }
+    }
+
+    public void remove(int index) {
+        int position = positions[index];
+        if (position == -1)
+            return;
+
+        positions[index] = -1;
+        size--;
+        if (position == size)
+            return;
+
+        int moved = heap[size];
+        heap[position] = moved;
+        positions[moved] = position;
+        siftUp(position);
+        if (positions[moved] == position)
+            siftDown(position);
+    }
+
+    private void siftUp(int position) {
+        int index = heap[position];
+        while (position > 0) {
+            int parent = (position - 1) >>> 1;
+            if (!higher(index, heap[parent]))
+                break;
+            heap[position] = heap[parent];
+            positions[heap[position]] = position;
+            position = parent;
+        }
+        heap[position] = index;
+        positions[index] = position;
+    }
+
+    private void siftDown(int position) {
+        int index = heap[position];
+        while (true) {
+            int child = 2 * position + 1;
+            if (child >= size)
+                break;
+            if (child + 1 < size && higher(heap[child + 1], heap[child]))
+                child++;
+            if (!higher(heap[child], index))
+                break;
+            heap[position] = heap[child];
+            positions[heap[position]] = position;
+            position = child;
+        }
+        heap[position] = index;
+        positions[index] = position;
+    }
+
+    private boolean higher(int first, int second) {
+        return keys[first] > keys[second] || (keys[first] == keys[second] && first < second);
+    }
+}
@@ -0,0 +1,87 @@
+package app;
+
+public class IntIntHashMap {
+    private static final int MISSING = -1;
+
+    private int[] keys;
+    private int[] values;
+    private boolean[] used;
+    private int mask;
+    private int size;
+
+    public IntIntHashMap(int expectedSize) {
+        int capacity = Integer.highestOneBit(Math.max(4, expectedSize) * 2 - 1) << 1;
+        keys = new int[capacity];
+        values = new int[capacity];
+        used = new boolean[capacity];
+        mask = capacity - 1;
+    }
+
+    public int size() {
+        return size;
+    }
+
+    public int get(int key) {
+        for (int slot = slot(key); used[slot]; slot = (slot + 1) & mask) {
+            if (keys[slot] == key)
+                return values[slot];
+        }
+        return MISSING;
+    }
+
+    public int putIfAbsent(int key, int value) {
+        int slot = slot(key);
+        for (; used[slot]; slot = (slot + 1) & mask) {
+            if (keys[slot] == key)
+                return values[slot];
+        }
+
+        used[slot] = true;
+        keys[slot] = key;
+        values[slot] = value;
+        if (++size * 2 > keys.length)
+            resize();
+        return MISSING;
+    }
+
+    public void put(int key, int value) {
+        int slot = slot(key);
+        while (used[slot] && keys[slot] != key)
+            slot = (slot + 1) & mask;
+
+        if (!used[slot]) {
+            used[slot] = true;
+            keys[slot] = key;
+            size++;
+        }
+        values[slot] = value;
+        if (size * 2 > keys.length)
+            resize();
+    }
+
+    private int slot(int key) {
+        int hash = key * 0x9E3779B9;
+        return (hash ^ (hash >>> 16)) & mask;
+    }
+
+    private void resize() {
+        int[] oldKeys = keys;
+        int[] oldValues = values;
+        boolean[] oldUsed = used;
+
+        keys = new int[oldKeys.length * 2];
+        values = new int[oldKeys.length * 2];
+        used = new boolean[oldKeys.length * 2];
+        mask = keys.length - 1;
+        for (int i = 0; i < oldKeys.length; i++) {
+            if (!oldUsed[i])
+                continue;
+            int slot = slot(oldKeys[i]);
+            while (used[slot])
+                slot = (slot + 1) & mask;
+            used[slot] = true;
+            keys[slot] = oldKeys[i];
+            values[slot] = oldValues[i];
+        }
+    }
+}
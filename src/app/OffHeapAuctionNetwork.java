@@ -0,0 +1,157 @@
+package app;
+
+import model.OffHeapMatrix;
+import model.OffHeapProblem;
+import model.TransportationProblem;
+
+public class OffHeapAuctionNetwork implements AuctionNetwork {
+    private OffHeapMatrix matrix;
+    private int producersCount;
+    private int pharmaciesCount;
+    private int[] production;
+    private int[] demand;
+    private long scale;
+    private long priceScale = 1;
+    private long maxCost;
+    private int[] surplusFlows;
+    private int sinksShift;
+    private long sinksMask;
+    private int producersShift;
+    private long producersMask;
+
+    public OffHeapAuctionNetwork(OffHeapProblem problem) {
+        matrix = problem.getMatrix();
+        producersCount = problem.getProducersCount();
+        pharmaciesCount = problem.getPharmaciesCount();
+        production = problem.getProduction();
+        demand = problem.getDemand();
+        scale = producersCount + pharmaciesCount + 2;
+        surplusFlows = new int[producersCount];
+        sinksShift = getShift(pharmaciesCount + 1);
+        sinksMask = (1L << sinksShift) - 1;
+        producersShift = getShift(producersCount);
+        producersMask = (1L << producersShift) - 1;
+
+        double maxPrice = 0;
+        for (int producer = 0; producer < producersCount; producer++) {
+            for (int pharmacy = 0; pharmacy < pharmaciesCount; pharmacy++) {
+                long cell = matrix.getCell(producer, pharmacy);
+                matrix.setSold(cell, 0);
+                double price = matrix.getPrice(cell);
+                priceScale = TransportationProblem.getPriceScale(price, priceScale);
+                maxPrice = Math.max(maxPrice, price);
+            }
+        }
+        maxCost = Math.max(1, Math.multiplyExact(Math.round(maxPrice * priceScale), scale));
+    }
+
+    private static int getShift(int count) {
+        return 32 - Integer.numberOfLeadingZeros(Math.max(1, count - 1));
+    }
+
+    @Override
+    public int getProducersCount() {
+        return producersCount;
+    }
+
+    @Override
+    public int getSinksCount() {
+        return pharmaciesCount + 1;
+    }
+
+    @Override
+    public int[] getProduction() {
+        return production;
+    }
+
+    @Override
+    public int[] getDemand() {
+        return demand;
+    }
+
+    @Override
+    public long getMaxCost() {
+        return maxCost;
+    }
+
+    @Override
+    public long getProducerArcsStart(int producer) {
+        return (long) producer << sinksShift;
+    }
+
+    @Override
+    public long getProducerArcsEnd(int producer) {
+        return getProducerArcsStart(producer) + pharmaciesCount + 1;
+    }
+
+    @Override
+    public int getHead(long arc) {
+        return (int) (arc & sinksMask);
+    }
+
+    @Override
+    public long getSinkArcsStart(int sink) {
+        return (long) sink << producersShift;
+    }
+
+    @Override
+    public long getSinkArcsEnd(int sink) {
+        return getSinkArcsStart(sink) + producersCount;
+    }
+
+    @Override
+    public long getSinkArc(long position) {
+        return getProducerArcsStart(getTail(position)) + (position >>> producersShift);
+    }
+
+    @Override
+    public int getTail(long position) {
+        return (int) (position & producersMask);
+    }
+
+    @Override
+    public long getSinkCost(long position) {
+        return getCost(getSinkArc(position));
+    }
+
+    @Override
+    public long getCost(long arc) {
+        int sink = getHead(arc);
+        if (sink == pharmaciesCount)
+            return 0;
+        return Math.round(matrix.getPrice(getCell(arc, sink)) * priceScale) * scale;
+    }
+
+    @Override
+    public int getCapacity(long arc) {
+        int sink = getHead(arc);
+        if (sink == pharmaciesCount)
+            return production[getProducer(arc)];
+        return matrix.getMaxVaccines(getCell(arc, sink));
+    }
+
+    @Override
+    public int getFlow(long arc) {
+        int sink = getHead(arc);
+        if (sink == pharmaciesCount)
+            return surplusFlows[getProducer(arc)];
+        return matrix.getSold(getCell(arc, sink));
+    }
+
+    @Override
+    public void setFlow(long arc, int flow) {
+        int sink = getHead(arc);
+        if (sink == pharmaciesCount)
+            surplusFlows[getProducer(arc)] = flow;
+        else
+            matrix.setSold(getCell(arc, sink), flow);
+    }
+
+    private int getProducer(long arc) {
+        return (int) (arc >>> sinksShift);
+    }
+
+    private long getCell(long arc, int sink) {
+        return matrix.getCell(getProducer(arc), sink);
+    }
+}
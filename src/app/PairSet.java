@@ -0,0 +1,66 @@
+package app;
+
+import java.util.Arrays;
+
+public class PairSet {
+    private static final long EMPTY = -1;
+
+    private int columns;
+    private long[] bits;
+    private long[] table;
+    private int mask;
+    private int size;
+
+    public PairSet(int rows, int columns, boolean dense) {
+        this.columns = columns;
+        if (dense) {
+            bits = new long[(int) (((long) rows * columns + 63) >>> 6)];
+        } else {
+            table = new long[16];
+            Arrays.fill(table, EMPTY);
+            mask = table.length - 1;
+        }
+    }
+
+    public boolean add(int row, int column) {
+        long pair = (long) row * columns + column;
+        if (bits != null) {
+            int word = (int) (pair >>> 6);
+            long bit = 1L << pair;
+            if ((bits[word] & bit) != 0)
+                return false;
+            bits[word] |= bit;
+            return true;
+        }
+
+        int slot = slot(pair);
+        for (; table[slot] != EMPTY; slot = (slot + 1) & mask) {
+            if (table[slot] == pair)
+                return false;
+        }
+        table[slot] = pair;
+        if (++size * 2 > table.length)
+            resize();
+        return true;
+    }
+
+    private int slot(long pair) {
+        long hash = pair * 0x9E3779B97F4A7C15L;
+        return (int) (hash ^ (hash >>> 32)) & mask;
+    }
+
+    private void resize() {
+        long[] oldTable = table;
+        table = new long[oldTable.length * 2];
+        Arrays.fill(table, EMPTY);
+        mask = table.length - 1;
+        for (long pair : oldTable) {
+            if (pair == EMPTY)
+                continue;
+            int slot = slot(pair);
+            while (table[slot] != EMPTY)
+                slot = (slot + 1) & mask;
+            table[slot] = pair;
+        }
+    }
+}
@@ -0,0 +1,106 @@
+package app;
+
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RecursiveAction;
+import java.util.function.IntToDoubleFunction;
+
+public class ParallelCalculator {
+    private ForkJoinPool pool;
+    private int threshold;
+
+    public ParallelCalculator(ForkJoinPool pool, int threshold) {
+        this.pool = pool;
+        this.threshold = Math.max(1, threshold);
+    }
+
+    public void forEachRange(int from, int to, RangeAction action) {
+        if (to - from <= threshold)
+            action.compute(from, to);
+        else
+            pool.invoke(new RangeTask(from, to, action));
+    }
+
+    public int argMax(int from, int to, IntToDoubleFunction values, double floor) {
+        if (to - from <= threshold)
+            return argMaxSequential(from, to, values, floor);
+
+        ArgMaxTask task = new ArgMaxTask(from, to, values, floor);
+        pool.invoke(task);
+        return task.bestIndex;
+    }
+
+    private static int argMaxSequential(int from, int to, IntToDoubleFunction values, double floor) {
+        int bestIndex = -1;
+        double bestValue = floor;
+        for (int i = from; i < to; i++) {
+            double value = values.applyAsDouble(i);
+            if (value > bestValue) {
+                bestValue = value;
+                bestIndex = i;
+            }
+        }
+        return bestIndex;
+    }
+
+    public interface RangeAction {
+        void compute(int from, int to);
+    }
+
+    @SuppressWarnings("serial")
+    private class RangeTask extends RecursiveAction {
+        private int from;
+        private int to;
+        private RangeAction action;
+
+        private RangeTask(int from, int to, RangeAction action) {
+            this.from = from;
+            this.to = to;
+            this.action = action;
+        }
+
+        @Override
+        protected void compute() {
+            if (to - from <= threshold) {
+                action.compute(from, to);
+                return;
+            }
+            int middle = (from + to) >>> 1;
+            invokeAll(new RangeTask(from, middle, action), new RangeTask(middle, to, action));
+        }
+    }
+
+    @SuppressWarnings("serial")
+    private class ArgMaxTask extends RecursiveAction {
+        private int from;
+        private int to;
+        private IntToDoubleFunction values;
+        private double floor;
+        private int bestIndex;
+        private double bestValue;
+
+        private ArgMaxTask(int from, int to, IntToDoubleFunction values, double floor) {
+            this.from = from;
+            this.to = to;
+            this.values = values;
+            this.floor = floor;
+        }
+
+        @Override
+        protected void compute() {
+            if (to - from <= threshold) {
+                bestIndex = argMaxSequential(from, to, values, floor);
+                bestValue = bestIndex == -1 ? floor : values.applyAsDouble(bestIndex);
+                return;
+            }
+
+            int middle = (from + to) >>> 1;
+            ArgMaxTask left = new ArgMaxTask(from, middle, values, floor);
+            ArgMaxTask right = new ArgMaxTask(middle, to, values, floor);
+            invokeAll(left, right);
+
+            boolean rightBetter = right.bestIndex != -1 && (left.bestIndex == -1 || right.bestValue > left.bestValue);
+            bestIndex = rightBetter ? right.bestIndex : left.bestIndex;
+            bestValue = rightBetter ? right.bestValue : left.bestValue;
+        }
+    }
+}
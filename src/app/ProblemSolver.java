@@ -0,0 +1,105 @@
+package app;
+
+import model.TransportationProblem;
+
+import java.util.concurrent.ForkJoinPool;
+
+public class ProblemSolver {
+    private SolverOptions options;
+    private ParallelCalculator parallelCalculator;
+    private VAMSolver vamSolver;
+    private AuctionSolver auctionSolver;
+    private ResultCache resultCache;
+    private SolverMetrics metrics;
+    private ComponentSolver componentSolver;
+
+    public ProblemSolver(SolverOptions options, ParallelCalculator parallelCalculator) {
+        this(options, parallelCalculator, null);
+    }
+
+    public ProblemSolver(SolverOptions options, ParallelCalculator parallelCalculator, ResultCache resultCache) {
+        this.options = options;
+        this.parallelCalculator = parallelCalculator;
+        this.resultCache = resultCache;
+        vamSolver = new VAMSolver(parallelCalculator);
+        if (options.isAuction())
+            auctionSolver = new AuctionSolver(parallelCalculator);
+        if (options.isDecompose())
+            componentSolver = new ComponentSolver(options, parallelCalculator, ForkJoinPool.commonPool());
+    }
+
+    public void setMetrics(SolverMetrics metrics) {
+        this.metrics = metrics;
+        vamSolver.setMetrics(metrics);
+        if (componentSolver != null)
+            componentSolver.setMetrics(metrics);
+    }
+
+    public int[] solve(TransportationProblem problem) {
+        int[] vaccinesSold = solveWithCache(problem);
+        if (metrics != null)
+            metrics.addSolvedProblem();
+        return vaccinesSold;
+    }
+
+    private int[] solveWithCache(TransportationProblem problem) {
+        if (resultCache == null)
+            return solveWithoutCache(problem);
+
+        String key = resultCache.getKey(problem, options);
+        int[] vaccinesSold = resultCache.get(key, problem.getConnectionsCount());
+        if (vaccinesSold == null) {
+            vaccinesSold = solveWithoutCache(problem);
+            resultCache.put(key, vaccinesSold);
+        }
+        return vaccinesSold;
+    }
+
+    private int[] solveWithoutCache(TransportationProblem problem) {
+        if (componentSolver != null)
+            return componentSolver.solve(problem);
+        return solveComponent(problem);
+    }
+
+    int[] solveComponent(TransportationProblem problem) {
+        long start = System.nanoTime();
+        if (auctionSolver != null)
+            return addPhaseTime(SolverMetrics.Phase.AUCTION, start, auctionSolver.solve(problem));
+        if (options.isSparse())
+            return addSimplexTime(start, new TransportationSimplex(problem, parallelCalculator).solve());
+
+        int[] vaccinesSold = vamSolver.solve(problem);
+        if (options.isOptimize()) {
+            start = System.nanoTime();
+            vaccinesSold = addSimplexTime(start,
+                    new TransportationSimplex(problem, parallelCalculator).optimize(vaccinesSold));
+        }
+        return vaccinesSold;
+    }
+
+    private int[] addSimplexTime(long start, int[] vaccinesSold) {
+        return addPhaseTime(SolverMetrics.Phase.SIMPLEX, start, vaccinesSold);
+    }
+
+    private int[] addPhaseTime(SolverMetrics.Phase phase, long start, int[] vaccinesSold) {
+        if (metrics != null)
+            metrics.addPhaseTime(phase, System.nanoTime() - start);
+        return vaccinesSold;
+    }
+
+    public static double getTotalCost(TransportationProblem problem, int[] vaccinesSold) {
+        if (problem.isExact()) {
+            long totalCostCents = 0;
+            long[] pricesCents = problem.getPricesCents();
+            for (int i = 0; i < vaccinesSold.length; i++)
+                totalCostCents = Math.addExact(totalCostCents, Math.multiplyExact(vaccinesSold[i], pricesCents[i]));
+            return totalCostCents / 100.0;
+        }
+
+        double totalCost = 0;
+        double[] prices = problem.getPrices();
+        for (int i = 0; i < vaccinesSold.length; i++)
+            totalCost += vaccinesSold[i] * prices[i];
+        return totalCost;
+    }
+}
@@ -0,0 +1,189 @@
+package app;
+
+import model.TransportationProblem;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.zip.CRC32;
+
+public class ResultCache {
+    private static final int DIGEST_BUFFER_SIZE = 1 << 16;
+    private static final char[] HEX_DIGITS = "0123456789abcdef".toCharArray();
+    private static final int MAGIC = 0x4f535243;
+    private static final int VERSION = 2;
+    private static final int HEADER_BYTES = 3 * Integer.BYTES;
+
+    private Map<String, int[]> entries;
+    private Path directory;
+
+    public ResultCache(int maxEntries, Path directory) {
+        this.directory = directory;
+        entries = new LinkedHashMap<>(16, 0.75f, true) {
+            @Override
+            protected boolean removeEldestEntry(Map.Entry<String, int[]> eldest) {
+                return size() > maxEntries;
+            }
+        };
+    }
+
+    public String getKey(TransportationProblem problem, SolverOptions options) {
+        MessageDigest digest;
+        try {
+            digest = MessageDigest.getInstance("SHA-256");
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException(e);
+        }
+
+        ByteBuffer buffer = ByteBuffer.allocate(DIGEST_BUFFER_SIZE).order(ByteOrder.LITTLE_ENDIAN);
+        buffer.put((byte) (options.isSparse() ? 1 : 0)).put((byte) (options.isOptimize() ? 1 : 0))
+                .put((byte) (options.isDecompose() ? 1 : 0)).put((byte) (options.isExact() ? 1 : 0))
+                .put((byte) (options.isAuction() ? 1 : 0));
+        updateDigest(digest, buffer, problem.getProducersIds());
+        updateDigest(digest, buffer, problem.getProducersNames());
+        updateDigest(digest, buffer, problem.getProduction());
+        updateDigest(digest, buffer, problem.getPharmaciesIds());
+        updateDigest(digest, buffer, problem.getPharmaciesNames());
+        updateDigest(digest, buffer, problem.getDemand());
+        updateDigest(digest, buffer, problem.getConnectionsProducers());
+        updateDigest(digest, buffer, problem.getConnectionsPharmacies());
+        updateDigest(digest, buffer, problem.getMaxVaccines());
+        updateDigest(digest, buffer, problem.getPrices());
+        buffer.flip();
+        digest.update(buffer);
+
+        byte[] hash = digest.digest();
+        char[] key = new char[hash.length * 2];
+        for (int i = 0; i < hash.length; i++) {
+            key[2 * i] = HEX_DIGITS[(hash[i] >> 4) & 0xf];
+            key[2 * i + 1] = HEX_DIGITS[hash[i] & 0xf];
+        }
+        return new String(key);
+    }
+
+    private void updateDigest(MessageDigest digest, ByteBuffer buffer, int[] values) {
+        prepareBuffer(digest, buffer, Integer.BYTES);
+        buffer.putInt(values.length);
+        int written = 0;
+        while (written < values.length) {
+            prepareBuffer(digest, buffer, Integer.BYTES);
+            int count = Math.min(values.length - written, buffer.remaining() / Integer.BYTES);
+            buffer.asIntBuffer().put(values, written, count);
+            buffer.position(buffer.position() + count * Integer.BYTES);
+            written += count;
+        }
+    }
+
+    private void updateDigest(MessageDigest digest, ByteBuffer buffer, double[] values) {
+        prepareBuffer(digest, buffer, Integer.BYTES);
+        buffer.putInt(values.length);
+        int written = 0;
+        while (written < values.length) {
+            prepareBuffer(digest, buffer, Double.BYTES);
+            int count = Math.min(values.length - written, buffer.remaining() / Double.BYTES);
+            buffer.asDoubleBuffer().put(values, written, count);
+            buffer.position(buffer.position() + count * Double.BYTES);
+            written += count;
+        }
+    }
+
+    private void updateDigest(MessageDigest digest, ByteBuffer buffer, String[] values) {
+        prepareBuffer(digest, buffer, Integer.BYTES);
+        buffer.putInt(values.length);
+        for (String value : values) {
+            byte[] bytes = value.getBytes(StandardCharsets.UTF_8);
+            prepareBuffer(digest, buffer, Integer.BYTES);
+            buffer.putInt(bytes.length);
+            buffer.flip();
+            digest.update(buffer);
+            buffer.clear();
+            digest.update(bytes);
+        }
+    }
+
+    private void prepareBuffer(MessageDigest digest, ByteBuffer buffer, int bytes) {
+        if (buffer.remaining() >= bytes)
+            return;
+        buffer.flip();
+        digest.update(buffer);
+        buffer.clear();
+    }
+
+    public int[] get(String key, int connectionsCount) {
+        synchronized (entries) {
+            int[] vaccinesSold = entries.get(key);
+            if (vaccinesSold != null)
+                return vaccinesSold.clone();
+        }
+
+        int[] vaccinesSold = readFromDisk(key, connectionsCount);
+        if (vaccinesSold != null) {
+            synchronized (entries) {
+                entries.put(key, vaccinesSold.clone());
+            }
+        }
+        return vaccinesSold;
+    }
+
+    public void put(String key, int[] vaccinesSold) {
+        synchronized (entries) {
+            entries.put(key, vaccinesSold.clone());
+        }
+        writeToDisk(key, vaccinesSold);
+    }
+
+    private int[] readFromDisk(String key, int connectionsCount) {
+        if (directory == null)
+            return null;
+
+        Path file = directory.resolve(key + ".bin");
+        if (!Files.isRegularFile(file))
+            return null;
+        try {
+            ByteBuffer buffer = ByteBuffer.wrap(Files.readAllBytes(file)).order(ByteOrder.LITTLE_ENDIAN);
+            if (buffer.remaining() != HEADER_BYTES + (long) connectionsCount * Integer.BYTES + Long.BYTES ||
+                    buffer.getInt() != MAGIC || buffer.getInt() != VERSION || buffer.getInt() != connectionsCount)
+                return null;
+
+            int[] vaccinesSold = new int[connectionsCount];
+            buffer.asIntBuffer().get(vaccinesSold);
+            CRC32 checksum = new CRC32();
+            checksum.update(buffer.array(), 0, buffer.limit() - Long.BYTES);
+            if (buffer.getLong(buffer.limit() - Long.BYTES) != checksum.getValue())
+                return null;
+            return vaccinesSold;
+        } catch (IOException e) {
+            return null;
+        }
+    }
+
+    private void writeToDisk(String key, int[] vaccinesSold) {
+        if (directory == null)
+            return;
+
+        ByteBuffer buffer = ByteBuffer.allocate(HEADER_BYTES + vaccinesSold.length * Integer.BYTES + Long.BYTES)
+                .order(ByteOrder.LITTLE_ENDIAN);
+        buffer.putInt(MAGIC).putInt(VERSION).putInt(vaccinesSold.length);
+        buffer.asIntBuffer().put(vaccinesSold);
+        CRC32 checksum = new CRC32();
+        checksum.update(buffer.array(), 0, buffer.capacity() - Long.BYTES);
+        buffer.putLong(buffer.capacity() - Long.BYTES, checksum.getValue());
+        try {
+            Files.createDirectories(directory);
+            Path temporaryFile = Files.createTempFile(directory, key, ".tmp");
+            Files.write(temporaryFile, buffer.array());
+            Files.move(temporaryFile, directory.resolve(key + ".bin"), StandardCopyOption.REPLACE_EXISTING,
+                    StandardCopyOption.ATOMIC_MOVE);
+        } catch (IOException e) {
+            System.err.println("Nie udało się zapisać wyniku w pamięci podręcznej " + directory);
+        }
+    }
+}
@@ -0,0 +1,137 @@
+package app;
+
+import model.ProblemDelta;
+import model.ScenarioResult;
+import model.TransportationProblem;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+public class RollingHorizonSolver {
+    private ParallelCalculator parallelCalculator;
+    private DeltaSolver deltaSolver;
+    private int[] stock;
+    private int[] capacityUsage;
+
+    public RollingHorizonSolver(ParallelCalculator parallelCalculator) {
+        this.parallelCalculator = parallelCalculator;
+    }
+
+    public int[] getStock() {
+        return stock;
+    }
+
+    public int[] getCapacityUsage() {
+        return capacityUsage;
+    }
+
+    public List<ScenarioResult> solve(List<String> names, List<TransportationProblem> periods) {
+        List<ScenarioResult> results = new ArrayList<>(periods.size());
+        for (int i = 0; i < periods.size(); i++)
+            results.add(solvePeriod(names.get(i), periods.get(i)));
+        return results;
+    }
+
+    public ScenarioResult solvePeriod(String name, TransportationProblem period) {
+        int[] vaccinesSold;
+        if (deltaSolver == null) {
+            vaccinesSold = new TransportationSimplex(period, parallelCalculator).solve();
+            deltaSolver = new DeltaSolver(period, vaccinesSold, parallelCalculator);
+            capacityUsage = new int[period.getConnectionsCount()];
+        } else {
+            TransportationProblem current = deltaSolver.getProblem();
+            vaccinesSold = deltaSolver.apply(createDelta(current, period, matchConnections(name, current, period)));
+        }
+
+        TransportationProblem problem = deltaSolver.getProblem();
+        updateStock(problem, vaccinesSold);
+        updateCapacityUsage(vaccinesSold);
+        return new ScenarioResult(name, problem, vaccinesSold, ProblemSolver.getTotalCost(problem, vaccinesSold));
+    }
+
+    private int[] matchConnections(String name, TransportationProblem current, TransportationProblem period) {
+        if (current.isExact() != period.isExact())
+            throw new IllegalArgumentException("Okres " + name + " został wczytany w innym trybie cen!");
+        if (!Arrays.equals(current.getProducersIds(), period.getProducersIds())
+                || !Arrays.equals(current.getPharmaciesIds(), period.getPharmaciesIds())
+                || current.getConnectionsCount() != period.getConnectionsCount())
+            throw new IllegalArgumentException("Sieć połączeń w okresie " + name +
+                    " różni się od sieci z pierwszego okresu!");
+
+        int[] currentOffsets = current.getProducersOffsets();
+        int[] currentConnections = current.getProducersConnections();
+        int[] currentPharmacies = current.getConnectionsPharmacies();
+        int[] offsets = period.getProducersOffsets();
+        int[] connections = period.getProducersConnections();
+        int[] pharmacies = period.getConnectionsPharmacies();
+        int[] pharmaciesConnections = new int[current.getPharmaciesCount()];
+        Arrays.fill(pharmaciesConnections, -1);
+        int[] matchedConnections = new int[period.getConnectionsCount()];
+        for (int producer = 0; producer < current.getProducersCount(); producer++) {
+            for (int i = currentOffsets[producer]; i < currentOffsets[producer + 1]; i++)
+                pharmaciesConnections[currentPharmacies[currentConnections[i]]] = currentConnections[i];
+            for (int i = offsets[producer]; i < offsets[producer + 1]; i++) {
+                int connection = connections[i];
+                matchedConnections[connection] = pharmaciesConnections[pharmacies[connection]];
+                if (matchedConnections[connection] == -1)
+                    throw new IllegalArgumentException("Sieć połączeń w okresie " + name +
+                            " różni się od sieci z pierwszego okresu!");
+            }
+            for (int i = currentOffsets[producer]; i < currentOffsets[producer + 1]; i++)
+                pharmaciesConnections[currentPharmacies[currentConnections[i]]] = -1;
+        }
+        return matchedConnections;
+    }
+
+    private ProblemDelta createDelta(TransportationProblem current, TransportationProblem period,
+                                     int[] matchedConnections) {
+        ProblemDelta delta = new ProblemDelta();
+        int[] producersIds = period.getProducersIds();
+        int[] currentProduction = current.getProduction();
+        int[] production = period.getProduction();
+        for (int producer = 0; producer < producersIds.length; producer++) {
+            int available = Math.addExact(production[producer], stock[producer]);
+            if (available != currentProduction[producer])
+                delta.changeProduction(producersIds[producer], available);
+        }
+
+        int[] pharmaciesIds = period.getPharmaciesIds();
+        int[] currentDemand = current.getDemand();
+        int[] demand = period.getDemand();
+        for (int pharmacy = 0; pharmacy < pharmaciesIds.length; pharmacy++) {
+            if (demand[pharmacy] != currentDemand[pharmacy])
+                delta.changeDemand(pharmaciesIds[pharmacy], demand[pharmacy]);
+        }
+
+        int[] connectionsProducers = period.getConnectionsProducers();
+        int[] connectionsPharmacies = period.getConnectionsPharmacies();
+        int[] currentMaxVaccines = current.getMaxVaccines();
+        int[] maxVaccines = period.getMaxVaccines();
+        double[] currentPrices = current.getPrices();
+        double[] prices = period.getPrices();
+        for (int connection = 0; connection < connectionsProducers.length; connection++) {
+            int producerId = producersIds[connectionsProducers[connection]];
+            int pharmacyId = pharmaciesIds[connectionsPharmacies[connection]];
+            int currentConnection = matchedConnections[connection];
+            int remainingVaccines = Math.max(0, maxVaccines[connection] - capacityUsage[currentConnection]);
+            if (remainingVaccines != currentMaxVaccines[currentConnection])
+                delta.changeMaxVaccines(producerId, pharmacyId, remainingVaccines);
+            if (Double.compare(prices[connection], currentPrices[currentConnection]) != 0)
+                delta.changePrice(producerId, pharmacyId, prices[connection]);
+        }
+        return delta;
+    }
+
+    private void updateStock(TransportationProblem problem, int[] vaccinesSold) {
+        stock = problem.getProduction().clone();
+        int[] connectionsProducers = problem.getConnectionsProducers();
+        for (int connection = 0; connection < vaccinesSold.length; connection++)
+            stock[connectionsProducers[connection]] -= vaccinesSold[connection];
+    }
+
+    private void updateCapacityUsage(int[] vaccinesSold) {
+        for (int connection = 0; connection < vaccinesSold.length; connection++)
+            capacityUsage[connection] = Math.addExact(capacityUsage[connection], vaccinesSold[connection]);
+    }
+}
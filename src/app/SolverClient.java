@@ -0,0 +1,49 @@
+package app;
+
+import exception.SolverServerException;
+
+import java.io.BufferedInputStream;
+import java.io.BufferedOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.net.SocketAddress;
+import java.net.StandardProtocolFamily;
+import java.net.UnixDomainSocketAddress;
+import java.nio.channels.Channels;
+import java.nio.channels.SocketChannel;
+import java.nio.charset.StandardCharsets;
+
+public class SolverClient implements AutoCloseable {
+    private SocketChannel channel;
+    private DataInputStream input;
+    private DataOutputStream output;
+
+    public SolverClient(String address) throws IOException {
+        SocketAddress socketAddress = SolverServer.parseAddress(address);
+        channel = socketAddress instanceof UnixDomainSocketAddress ?
+                SocketChannel.open(StandardProtocolFamily.UNIX) : SocketChannel.open();
+        channel.connect(socketAddress);
+        input = new DataInputStream(new BufferedInputStream(Channels.newInputStream(channel)));
+        output = new DataOutputStream(new BufferedOutputStream(Channels.newOutputStream(channel)));
+    }
+
+    public byte[] solve(String format, byte[] instance) throws IOException {
+        output.writeUTF(format);
+        output.writeInt(instance.length);
+        output.write(instance);
+        output.flush();
+
+        byte status = input.readByte();
+        byte[] response = new byte[input.readInt()];
+        input.readFully(response);
+        if (status != SolverServer.STATUS_OK)
+            throw new SolverServerException(new String(response, StandardCharsets.UTF_8));
+        return response;
+    }
+
+    @Override
+    public void close() throws IOException {
+        channel.close();
+    }
+}
@@ -0,0 +1,212 @@
+package app;
+
+import javax.management.InstanceAlreadyExistsException;
+import javax.management.JMException;
+import javax.management.MBeanServer;
+import javax.management.ObjectName;
+import java.lang.management.ManagementFactory;
+import java.lang.management.MemoryPoolMXBean;
+import java.lang.management.MemoryType;
+import java.lang.management.ThreadMXBean;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicLongArray;
+
+public class SolverMetrics implements SolverMetricsMBean {
+    public static final String OBJECT_NAME = "app:type=SolverMetrics";
+
+    public enum Phase {
+        PARSE("parse"),
+        VALIDATION("validation"),
+        PREPARATION("preparation"),
+        PENALTY("penalty"),
+        SELECTION("selection"),
+        ALLOCATION("allocation"),
+        SIMPLEX("simplex"),
+        AUCTION("auction"),
+        PRINT("print");
+
+        private String name;
+
+        Phase(String name) {
+            this.name = name;
+        }
+
+        public String getName() {
+            return name;
+        }
+    }
+
+    private AtomicLongArray phasesTimes = new AtomicLongArray(Phase.values().length);
+    private AtomicLong solvedProblems = new AtomicLong();
+    private AtomicLong vamIterations = new AtomicLong();
+    private AtomicLong vamAllocatedBytes = new AtomicLong();
+    private AtomicLong peakHeapBytes = new AtomicLong();
+
+    public SolverMetrics() {
+        resetPeakHeap();
+    }
+
+    public void addPhaseTime(Phase phase, long nanos) {
+        phasesTimes.addAndGet(phase.ordinal(), nanos);
+    }
+
+    public long getPhaseTime(Phase phase) {
+        return phasesTimes.get(phase.ordinal());
+    }
+
+    public void addSolvedProblem() {
+        solvedProblems.incrementAndGet();
+        updatePeakHeap();
+    }
+
+    public void addVAMIterations(long iterations, long allocatedBytes) {
+        vamIterations.addAndGet(iterations);
+        if (allocatedBytes > 0)
+            vamAllocatedBytes.addAndGet(allocatedBytes);
+    }
+
+    public long getCurrentThreadAllocatedBytes() {
+        ThreadMXBean threadMXBean = ManagementFactory.getThreadMXBean();
+        if (threadMXBean instanceof com.sun.management.ThreadMXBean) {
+            com.sun.management.ThreadMXBean allocationBean = (com.sun.management.ThreadMXBean) threadMXBean;
+            if (allocationBean.isThreadAllocatedMemorySupported() && allocationBean.isThreadAllocatedMemoryEnabled())
+                return allocationBean.getThreadAllocatedBytes(Thread.currentThread().getId());
+        }
+        return -1;
+    }
+
+    public void updatePeakHeap() {
+        long used = 0;
+        for (MemoryPoolMXBean pool : ManagementFactory.getMemoryPoolMXBeans()) {
+            if (pool.getType() == MemoryType.HEAP && pool.isValid())
+                used += pool.getPeakUsage().getUsed();
+        }
+        peakHeapBytes.accumulateAndGet(used, Math::max);
+    }
+
+    private void resetPeakHeap() {
+        for (MemoryPoolMXBean pool : ManagementFactory.getMemoryPoolMXBeans()) {
+            if (pool.getType() == MemoryType.HEAP && pool.isValid())
+                pool.resetPeakUsage();
+        }
+        peakHeapBytes.set(0);
+    }
+
+    @Override
+    public long getParseTimeNanos() {
+        return getPhaseTime(Phase.PARSE);
+    }
+
+    @Override
+    public long getValidationTimeNanos() {
+        return getPhaseTime(Phase.VALIDATION);
+    }
+
+    @Override
+    public long getPreparationTimeNanos() {
+        return getPhaseTime(Phase.PREPARATION);
+    }
+
+    @Override
+    public long getPenaltyTimeNanos() {
+        return getPhaseTime(Phase.PENALTY);
+    }
+
+    @Override
+    public long getSelectionTimeNanos() {
+        return getPhaseTime(Phase.SELECTION);
+    }
+
+    @Override
+    public long getAllocationTimeNanos() {
+        return getPhaseTime(Phase.ALLOCATION);
+    }
+
+    @Override
+    public long getSimplexTimeNanos() {
+        return getPhaseTime(Phase.SIMPLEX);
+    }
+
+    @Override
+    public long getAuctionTimeNanos() {
+        return getPhaseTime(Phase.AUCTION);
+    }
+
+    @Override
+    public long getPrintTimeNanos() {
+        return getPhaseTime(Phase.PRINT);
+    }
+
+    @Override
+    public long getSolvedProblems() {
+        return solvedProblems.get();
+    }
+
+    @Override
+    public long getVAMIterations() {
+        return vamIterations.get();
+    }
+
+    @Override
+    public double getAllocatedBytesPerIteration() {
+        long iterations = vamIterations.get();
+        return iterations == 0 ? 0 : (double) vamAllocatedBytes.get() / iterations;
+    }
+
+    @Override
+    public long getPeakHeapBytes() {
+        updatePeakHeap();
+        return peakHeapBytes.get();
+    }
+
+    @Override
+    public String getReport() {
+        StringBuilder report = new StringBuilder("{\"phasesNanos\":{");
+        for (Phase phase : Phase.values()) {
+            if (phase.ordinal() > 0)
+                report.append(',');
+            report.append('"').append(phase.getName()).append("\":").append(getPhaseTime(phase));
+        }
+        report.append("},\"solvedProblems\":").append(getSolvedProblems());
+        report.append(",\"vamIterations\":").append(getVAMIterations());
+        report.append(",\"allocatedBytesPerIteration\":").append(getAllocatedBytesPerIteration());
+        report.append(",\"peakHeapBytes\":").append(getPeakHeapBytes());
+        return report.append('}').toString();
+    }
+
+    @Override
+    public void reset() {
+        for (int i = 0; i < phasesTimes.length(); i++)
+            phasesTimes.set(i, 0);
+        solvedProblems.set(0);
+        vamIterations.set(0);
+        vamAllocatedBytes.set(0);
+        resetPeakHeap();
+    }
+
+    public void register() {
+        try {
+            MBeanServer server = ManagementFactory.getPlatformMBeanServer();
+            ObjectName name = new ObjectName(OBJECT_NAME);
+            try {
+                server.registerMBean(this, name);
+            } catch (InstanceAlreadyExistsException e) {
+                server.unregisterMBean(name);
+                server.registerMBean(this, name);
+            }
+        } catch (JMException e) {
+            throw new IllegalStateException("Nie można zarejestrować metryk w JMX", e);
+        }
+    }
+
+    public void unregister() {
+        try {
+            MBeanServer server = ManagementFactory.getPlatformMBeanServer();
+            ObjectName name = new ObjectName(OBJECT_NAME);
+            if (server.isRegistered(name))
+                server.unregisterMBean(name);
+        } catch (JMException e) {
+            throw new IllegalStateException("Nie można wyrejestrować metryk z JMX", e);
+        }
+    }
+}
@@ -0,0 +1,33 @@
+package app;
+
+public interface SolverMetricsMBean {
+    long getParseTimeNanos();
+
+    long getValidationTimeNanos();
+
+    long getPreparationTimeNanos();
+
+    long getPenaltyTimeNanos();
+
+    long getSelectionTimeNanos();
+
+    long getAllocationTimeNanos();
+
+    long getSimplexTimeNanos();
+
+    long getAuctionTimeNanos();
+
+    long getPrintTimeNanos();
+
+    long getSolvedProblems();
+
+    long getVAMIterations();
+
+    double getAllocatedBytesPerIteration();
+
+    long getPeakHeapBytes();
+
+    String getReport();
+
+    void reset();
+}
@@ -0,0 +1,112 @@
+package app;
+
+public class SolverOptions {
+    private boolean optimize;
+    private boolean sparse;
+    private boolean parallel;
+    private boolean decompose;
+    private boolean exact;
+    private boolean auction;
+    private int parallelThreshold = 1024;
+    private int cacheSize = 256;
+    private boolean memoryCache;
+    private String cacheDirectory;
+    private long deadlineMillis;
+    private int maxRequestSize = 1 << 28;
+
+    public boolean isOptimize() {
+        return optimize;
+    }
+
+    public void setOptimize(boolean optimize) {
+        this.optimize = optimize;
+    }
+
+    public boolean isSparse() {
+        return sparse;
+    }
+
+    public void setSparse(boolean sparse) {
+        this.sparse = sparse;
+    }
+
+    public boolean isParallel() {
+        return parallel;
+    }
+
+    public void setParallel(boolean parallel) {
+        this.parallel = parallel;
+    }
+
+    public boolean isDecompose() {
+        return decompose;
+    }
+
+    public void setDecompose(boolean decompose) {
+        this.decompose = decompose;
+    }
+
+    public boolean isExact() {
+        return exact;
+    }
+
+    public void setExact(boolean exact) {
+        this.exact = exact;
+    }
+
+    public boolean isAuction() {
+        return auction;
+    }
+
+    public void setAuction(boolean auction) {
+        this.auction = auction;
+    }
+
+    public int getParallelThreshold() {
+        return parallelThreshold;
+    }
+
+    public void setParallelThreshold(int parallelThreshold) {
+        this.parallelThreshold = parallelThreshold;
+    }
+
+    public int getCacheSize() {
+        return cacheSize;
+    }
+
+    public void setCacheSize(int cacheSize) {
+        this.cacheSize = cacheSize;
+    }
+
+    public boolean isMemoryCache() {
+        return memoryCache;
+    }
+
+    public void setMemoryCache(boolean memoryCache) {
+        this.memoryCache = memoryCache;
+    }
+
+    public String getCacheDirectory() {
+        return cacheDirectory;
+    }
+
+    public void setCacheDirectory(String cacheDirectory) {
+        this.cacheDirectory = cacheDirectory;
+    }
+
+    public long getDeadlineMillis() {
+        return deadlineMillis;
+    }
+
+    public void setDeadlineMillis(long deadlineMillis) {
+        this.deadlineMillis = deadlineMillis;
+    }
+
+    public int getMaxRequestSize() {
+        return maxRequestSize;
+    }
+
+    public void setMaxRequestSize(int maxRequestSize) {
+        this.maxRequestSize = maxRequestSize;
+    }
+}
@@ -0,0 +1,188 @@
+package app;
+
+import exception.SolverServerException;
+import io.FileManager;
+import io.OutputBuffer;
+import io.ResultWriter;
+import model.TransportationProblem;
+
+import java.io.BufferedInputStream;
+import java.io.BufferedOutputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.EOFException;
+import java.io.IOException;
+import java.net.InetAddress;
+import java.net.InetSocketAddress;
+import java.net.SocketAddress;
+import java.net.StandardProtocolFamily;
+import java.net.UnixDomainSocketAddress;
+import java.nio.ByteBuffer;
+import java.nio.channels.Channels;
+import java.nio.channels.ClosedChannelException;
+import java.nio.channels.ServerSocketChannel;
+import java.nio.channels.SocketChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ForkJoinPool;
+
+public class SolverServer implements AutoCloseable {
+    public static final String UNIX_PREFIX = "unix:";
+    public static final byte STATUS_OK = 0;
+    public static final byte STATUS_ERROR = 1;
+
+    private SolverOptions options;
+    private ParallelCalculator parallelCalculator;
+    private ResultCache resultCache;
+    private SolverMetrics metrics;
+    private ServerSocketChannel serverChannel;
+    private Path socketFile;
+    private ExecutorService executor;
+
+    public SolverServer(SolverOptions options, SolverMetrics metrics) {
+        this.options = options;
+        this.metrics = metrics;
+        if (options.isParallel())
+            parallelCalculator = new ParallelCalculator(ForkJoinPool.commonPool(), options.getParallelThreshold());
+        if (options.getCacheSize() > 0 || options.getCacheDirectory() != null)
+            resultCache = new ResultCache(options.getCacheSize(),
+                    options.getCacheDirectory() == null ? null : Path.of(options.getCacheDirectory()));
+        executor = createExecutor();
+    }
+
+    private static ExecutorService createExecutor() {
+        try {
+            return (ExecutorService) Executors.class.getMethod("newVirtualThreadPerTaskExecutor").invoke(null);
+        } catch (ReflectiveOperationException e) {
+            return Executors.newCachedThreadPool();
+        }
+    }
+
+    public static SocketAddress parseAddress(String address) {
+        if (address.startsWith(UNIX_PREFIX))
+            return UnixDomainSocketAddress.of(address.substring(UNIX_PREFIX.length()));
+        try {
+            return new InetSocketAddress(InetAddress.getLoopbackAddress(), Integer.parseInt(address));
+        } catch (IllegalArgumentException e) {
+            throw new IllegalArgumentException("Nieprawidłowy adres serwera: " + address);
+        }
+    }
+
+    public void bind(String address) throws IOException {
+        SocketAddress socketAddress = parseAddress(address);
+        if (socketAddress instanceof UnixDomainSocketAddress) {
+            socketFile = ((UnixDomainSocketAddress) socketAddress).getPath();
+            serverChannel = ServerSocketChannel.open(StandardProtocolFamily.UNIX);
+        } else {
+            serverChannel = ServerSocketChannel.open();
+        }
+        serverChannel.bind(socketAddress);
+    }
+
+    public SocketAddress getLocalAddress() throws IOException {
+        return serverChannel.getLocalAddress();
+    }
+
+    public void serve() throws IOException {
+        try {
+            while (true) {
+                SocketChannel channel = serverChannel.accept();
+                executor.execute(() -> handleConnection(channel));
+            }
+        } catch (ClosedChannelException e) {
+            executor.shutdown();
+        }
+    }
+
+    private void handleConnection(SocketChannel channel) {
+        try (channel) {
+            DataInputStream input = new DataInputStream(new BufferedInputStream(Channels.newInputStream(channel)));
+            DataOutputStream output = new DataOutputStream(
+                    new BufferedOutputStream(Channels.newOutputStream(channel)));
+            while (true) {
+                String format;
+                try {
+                    format = input.readUTF();
+                } catch (EOFException e) {
+                    return;
+                }
+                int length = input.readInt();
+                if (length < 0)
+                    throw new SolverServerException("Nieprawidłowa długość żądania: " + length);
+                if (length > options.getMaxRequestSize()) {
+                    input.skipNBytes(length);
+                    writeError(output, "Żądanie ma " + length + " B, a serwer przyjmuje najwyżej " +
+                            options.getMaxRequestSize() + " B");
+                    continue;
+                }
+                byte[] instance;
+                try {
+                    instance = new byte[length];
+                } catch (OutOfMemoryError e) {
+                    input.skipNBytes(length);
+                    writeError(output, "Za mało pamięci, aby przyjąć żądanie o rozmiarze " + length + " B");
+                    continue;
+                }
+                input.readFully(instance);
+                writeResponse(output, format, instance);
+            }
+        } catch (IOException | SolverServerException e) {
+            System.err.println("Błąd połączenia z klientem: " + e.getMessage());
+        }
+    }
+
+    private void writeResponse(DataOutputStream output, String format, byte[] instance) throws IOException {
+        byte[] response;
+        try {
+            response = solve(format, instance);
+        } catch (RuntimeException | IOException e) {
+            writeError(output, String.valueOf(e.getMessage()));
+            return;
+        } catch (OutOfMemoryError e) {
+            writeError(output, "Za mało pamięci, aby rozwiązać żądanie");
+            return;
+        }
+        writeFrame(output, STATUS_OK, response);
+    }
+
+    private void writeError(DataOutputStream output, String message) throws IOException {
+        writeFrame(output, STATUS_ERROR, message.getBytes(StandardCharsets.UTF_8));
+    }
+
+    private void writeFrame(DataOutputStream output, byte status, byte[] response) throws IOException {
+        output.writeByte(status);
+        output.writeInt(response.length);
+        output.write(response);
+        output.flush();
+    }
+
+    public byte[] solve(String format, byte[] instance) throws IOException {
+        ResultWriter resultWriter = ResultWriter.forFormat(format);
+        FileManager fileManager = new FileManager(options.isSparse(), options.isExact());
+        fileManager.setMetrics(metrics);
+        TransportationProblem problem = fileManager.readProblem(ByteBuffer.wrap(instance), "żądania");
+
+        ProblemSolver problemSolver = new ProblemSolver(options, parallelCalculator, resultCache);
+        problemSolver.setMetrics(metrics);
+        int[] vaccinesSold = problemSolver.solve(problem);
+
+        ByteArrayOutputStream result = new ByteArrayOutputStream();
+        try (OutputBuffer outputBuffer = new OutputBuffer(Channels.newChannel(result), true, 1 << 16)) {
+            resultWriter.write(problem, vaccinesSold, outputBuffer);
+        }
+        return result.toByteArray();
+    }
+
+    @Override
+    public void close() throws IOException {
+        if (serverChannel != null)
+            serverChannel.close();
+        executor.shutdown();
+        if (socketFile != null)
+            Files.deleteIfExists(socketFile);
+    }
+}
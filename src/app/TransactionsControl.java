@@ -1,172 +1,102 @@
 package app;
 
-import exception.IdAlreadyExistsException;
-import exception.InputDataException;
-import exception.InvalidConnectionsException;
+import exception.DataFileException;
+import io.BinaryFileManager;
 import io.FileManager;
-import io.ResultPrinter;
-import model.*;
+import io.OutputBuffer;
+import io.ResultWriter;
+import io.TextResultWriter;
+import model.AnytimeResult;
+import model.TransportationProblem;
 
-import java.util.ArrayList;
-import java.util.Collections;
-import java.util.List;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.concurrent.ForkJoinPool;
 
 public class TransactionsControl {
 
-    private ResultPrinter resultPrinter;
     private FileManager fileManager;
-    private DataControl dataControl;
+    private ProblemSolver problemSolver;
+    private ParallelCalculator parallelCalculator;
+    private SolverOptions options;
+    private SolverMetrics metrics;
 
-    private List<VAMProducer> producers;
-    private List<VAMPharmacy> pharmacies;
+    private TransportationProblem problem;
 
     public TransactionsControl(String fileName) {
-        try {
-            fileManager = new FileManager();
-            resultPrinter = new ResultPrinter();
-            dataControl = fileManager.getDataControl();
-            Participants participants = fileManager.readData(fileName);
-            initializeLists(participants);
-        } catch (IdAlreadyExistsException | IllegalArgumentException | InputDataException
-                | InvalidConnectionsException e) {
-            System.err.println(e.getMessage());
-            System.exit(1);
-        }
+        this(fileName, new SolverOptions());
     }
 
-    private void initializeLists(Participants participants) {
-        List<Producer> producersList = participants.getProducers();
-        List<Pharmacy> pharmaciesList = participants.getPharmacies();
-
-        this.producers = new ArrayList<>();
-        this.pharmacies = new ArrayList<>();
-
-        for (Producer producer : producersList)
-            producers.add(new VAMProducer(producer));
-
-        for (Pharmacy pharmacy : pharmaciesList)
-            pharmacies.add(new VAMPharmacy(pharmacy));
+    public TransactionsControl(String fileName, SolverOptions options) {
+        this(fileName, options, null);
     }
 
-    public void minimizeAndPrintCosts() {
-        while(!allPharmaciesHaveDemandsProvided()) {
-            calculateProducersVAMValues();
-            calculatePharmaciesVAMValues();
-            sellVaccines();
+    public TransactionsControl(String fileName, SolverOptions options, SolverMetrics metrics) {
+        this.options = options;
+        this.metrics = metrics;
+        fileManager = new FileManager(options.isSparse(), options.isExact());
+        fileManager.setMetrics(metrics);
+        if (options.isParallel()) {
+            fileManager.setParallelPool(ForkJoinPool.commonPool());
+            parallelCalculator = new ParallelCalculator(ForkJoinPool.commonPool(),
+                    options.getParallelThreshold());
         }
-        resultPrinter.printTransactions(pharmacies);
+        ResultCache resultCache = null;
+        if (options.isMemoryCache() && options.getCacheSize() > 0 || options.getCacheDirectory() != null)
+            resultCache = new ResultCache(options.getCacheSize(),
+                    options.getCacheDirectory() == null ? null : Path.of(options.getCacheDirectory()));
+        problemSolver = new ProblemSolver(options, parallelCalculator, resultCache);
+        problemSolver.setMetrics(metrics);
+        problem = fileManager.readProblem(fileName);
     }
 
-    private boolean allPharmaciesHaveDemandsProvided() {
-        for (VAMPharmacy pharmacy : pharmacies) {
-            if (pharmacy.getPharmacy().getVaccinesAmount() < pharmacy.getPharmacy().getDemand())
-                return false;
-        }
-        return true;
+    public TransportationProblem getProblem() {
+        return problem;
     }
 
-    private void calculatePharmaciesVAMValues() {
-        for (VAMPharmacy pharmacy : pharmacies) {
-            if (pharmacy.getPharmacy().getVaccinesAmount() < pharmacy.getPharmacy().getDemand()) {
-                List<Double> availablePharmacyConnectionsCosts = new ArrayList<>();
-                for (Connection connection : pharmacy.getPharmacy().getConnections()) {
-                    if (connection.getVaccinesSold() <= connection.getMaxVaccines())
-                        availablePharmacyConnectionsCosts.add(connection.getPrice());
-                }
-                setVAMValues(pharmacy, availablePharmacyConnectionsCosts);
-            } else {
-                pharmacy.setVamValue(0);
-            }
+    public void saveBinaryProblem(String fileName) {
+        try {
+            new BinaryFileManager().writeProblem(problem, fileName);
+        } catch (IOException e) {
+            throw new DataFileException("Błąd zapisu do pliku " + fileName, e);
         }
     }
 
-    private void calculateProducersVAMValues() {
-        for (VAMProducer producer : producers) {
-            if (producer.getProducer().getStock() > 0) {
-                List<Double> availableProducerConnectionsCosts = new ArrayList<>();
-                for (Connection connection : producer.getProducer().getConnections()) {
-                    if (connection.getVaccinesSold() <= connection.getMaxVaccines())
-                        availableProducerConnectionsCosts.add(connection.getPrice());
-                }
-                setVAMValues(producer, availableProducerConnectionsCosts);
-            } else
-                producer.setVamValue(0);
-        }
+    public void minimizeAndPrintCosts() {
+        minimizeAndWriteCosts(new TextResultWriter(), null);
     }
 
-    private void setVAMValues(VAMModel vamModel, List<Double> availableConnectionsCosts) {
-        Collections.sort(availableConnectionsCosts);
-        if (availableConnectionsCosts.size() > 1)
-            vamModel.setVamValue(availableConnectionsCosts.get(1) - availableConnectionsCosts.get(0));
-        else if (availableConnectionsCosts.size() == 1)
-            vamModel.setVamValue(availableConnectionsCosts.get(0));
-        else
-            vamModel.setVamValue(0);
+    public void minimizeAndWriteCosts(ResultWriter resultWriter, String outputFileName) {
+        writeResults(resultWriter, outputFileName, problemSolver.solve(problem));
     }
 
-    private VAMProducer getProducerWithHighestVAMValue() {
-        VAMProducer highestVamProducer = producers.get(0);
-        for (VAMProducer producer : producers) {
-            if (producer.getVamValue() > highestVamProducer.getVamValue())
-                highestVamProducer = producer;
-        }
-        return highestVamProducer;
+    public AnytimeResult minimizeBeforeDeadlineAndWriteCosts(ResultWriter resultWriter, String outputFileName) {
+        AnytimeSolver anytimeSolver = new AnytimeSolver(parallelCalculator);
+        anytimeSolver.setMetrics(metrics);
+        AnytimeResult result = anytimeSolver.solve(problem, options.getDeadlineMillis() * 1_000_000L);
+        writeResults(resultWriter, outputFileName, result.getVaccinesSold());
+        return result;
     }
 
-    private VAMPharmacy getPharmacyWithHighestVAMValue() {
-        VAMPharmacy highestVamPharmacy = pharmacies.get(0);
-        for (VAMPharmacy pharmacy : pharmacies) {
-            if (pharmacy.getVamValue() > highestVamPharmacy.getVamValue())
-                highestVamPharmacy = pharmacy;
+    private void writeResults(ResultWriter resultWriter, String outputFileName, int[] vaccinesSold) {
+        long start = System.nanoTime();
+        try (OutputBuffer output = outputFileName == null ? OutputBuffer.toStandardOutput() :
+                                                            OutputBuffer.toFile(outputFileName)) {
+            resultWriter.write(problem, vaccinesSold, output);
+        } catch (IOException e) {
+            throw new DataFileException(outputFileName == null ? "Błąd zapisu wyników" :
+                    "Błąd zapisu do pliku " + outputFileName, e);
         }
-        return highestVamPharmacy;
+        if (metrics != null)
+            metrics.addPhaseTime(SolverMetrics.Phase.PRINT, System.nanoTime() - start);
     }
 
-    private void sellVaccines() {
-        VAMProducer producerHighestVam = getProducerWithHighestVAMValue();
-        VAMPharmacy pharmacyHighestVam = getPharmacyWithHighestVAMValue();
-
-        if (producerHighestVam.getVamValue() >= pharmacyHighestVam.getVamValue())
-            sellVaccinesProducer(producerHighestVam);
-        else
-            sellVaccinesPharmacy(pharmacyHighestVam);
-    }
-
-    private void sellVaccinesProducer(VAMProducer producer) {
-        List<Connection> producerConnections = producer.getProducer().getConnections();
-        computeConnections(producerConnections);
-    }
-
-    private void computeConnections(List<Connection> producerConnections) {
-        Connection cheapestConnectionPossible = getCheapestConnectionPossible(producerConnections);
-        int maxAmountPossibleToSell = Math.min(cheapestConnectionPossible.getPharmacy().getDemand() -
-                        cheapestConnectionPossible.getPharmacy().getVaccinesAmount(),
-                cheapestConnectionPossible.getProducer().getStock());
-
-        maxAmountPossibleToSell = Math.min(maxAmountPossibleToSell, cheapestConnectionPossible.getMaxVaccines());
-        cheapestConnectionPossible.getProducer().subtractStock(maxAmountPossibleToSell);
-        cheapestConnectionPossible.getPharmacy().addVaccines(maxAmountPossibleToSell);
-        cheapestConnectionPossible.addVaccinesSold(maxAmountPossibleToSell);
-    }
-
-    private Connection getCheapestConnectionPossible(List<Connection> connections) {
-        Collections.sort(connections);
-        for (Connection connection : connections) {
-            if (connectionValid(connection))
-                return connection;
+    public void saveMetricsReport(String fileName) {
+        try {
+            Files.writeString(Path.of(fileName), metrics.getReport());
+        } catch (IOException e) {
+            throw new DataFileException("Błąd zapisu do pliku " + fileName, e);
         }
-        return null;
-    }
-
-    private boolean connectionValid(Connection connection) {
-        return connection.getVaccinesSold() < connection.getMaxVaccines()
-                && connection.getPharmacy().getVaccinesAmount() < connection.getPharmacy().getDemand()
-                && connection.getProducer().getStock() > 0;
-    }
-
-    private void sellVaccinesPharmacy(VAMPharmacy pharmacy) {
-        List<Connection> pharmacyConnections = pharmacy.getPharmacy().getConnections();
-        computeConnections(pharmacyConnections);
     }
 }
-
@@ -0,0 +1,518 @@
+package app;
+
+import exception.UnsatisfiableDemandException;
+import model.TransportationProblem;
+
+import java.util.Arrays;
+import java.util.function.IntToDoubleFunction;
+
+public class TransportationSimplex {
+    private static final byte STATE_UPPER = -1;
+    private static final byte STATE_TREE = 0;
+    private static final byte STATE_LOWER = 1;
+    private static final long INFINITE_CAPACITY = Long.MAX_VALUE / 4;
+    private static final int DEADLINE_CHECK_INTERVAL = 64;
+
+    private TransportationProblem problem;
+    private ParallelCalculator parallelCalculator;
+    private IntToDoubleFunction arcsImprovements = this::getImprovement;
+    private int producersCount;
+    private int connectionsCount;
+    private int surplusNode;
+    private int root;
+    private int nodesCount;
+    private int firstArtificialArc;
+    private int arcsCount;
+
+    private int[] source;
+    private int[] target;
+    private long[] capacity;
+    private double[] cost;
+    private long[] flow;
+    private byte[] state;
+    private long[] supply;
+    private long[] imbalance;
+    private double maxCost;
+
+    private int[] parent;
+    private int[] predecessorArc;
+    private boolean[] upward;
+    private int[] depth;
+    private int[] firstChild;
+    private int[] nextSibling;
+    private int[] previousSibling;
+    private double[] potential;
+
+    private int[] path;
+    private int[] stack;
+    private double epsilon;
+    private int blockSize;
+    private int nextArc;
+
+    private int enteringArc;
+    private int first;
+    private int second;
+    private int join;
+    private boolean increasing;
+
+    private boolean hasDeadline;
+    private long deadline;
+    private boolean optimal;
+
+    public TransportationSimplex(TransportationProblem problem) {
+        this(problem, null);
+    }
+
+    public TransportationSimplex(TransportationProblem problem, ParallelCalculator parallelCalculator) {
+        this.problem = problem;
+        this.parallelCalculator = parallelCalculator;
+        producersCount = problem.getProducersCount();
+        connectionsCount = problem.getConnectionsCount();
+        surplusNode = producersCount + problem.getPharmaciesCount();
+        root = surplusNode + 1;
+        nodesCount = root + 1;
+        firstArtificialArc = connectionsCount + producersCount;
+        arcsCount = firstArtificialArc + nodesCount - 1;
+
+        source = new int[arcsCount];
+        target = new int[arcsCount];
+        capacity = new long[arcsCount];
+        cost = new double[arcsCount];
+        flow = new long[arcsCount];
+        state = new byte[arcsCount];
+        supply = new long[nodesCount];
+        imbalance = new long[nodesCount];
+
+        parent = new int[nodesCount];
+        predecessorArc = new int[nodesCount];
+        upward = new boolean[nodesCount];
+        depth = new int[nodesCount];
+        firstChild = new int[nodesCount];
+        nextSibling = new int[nodesCount];
+        previousSibling = new int[nodesCount];
+        potential = new double[nodesCount];
+        path = new int[nodesCount];
+        stack = new int[nodesCount];
+
+        blockSize = Math.max(10, (int) Math.sqrt(arcsCount));
+        initializeArcs();
+    }
+
+    private void initializeArcs() {
+        int[] connectionsProducers = problem.getConnectionsProducers();
+        int[] connectionsPharmacies = problem.getConnectionsPharmacies();
+        int[] maxVaccines = problem.getMaxVaccines();
+        double[] prices = problem.getCosts();
+
+        maxCost = 0;
+        for (int arc = 0; arc < connectionsCount; arc++) {
+            source[arc] = connectionsProducers[arc];
+            target[arc] = producersCount + connectionsPharmacies[arc];
+            capacity[arc] = maxVaccines[arc];
+            cost[arc] = prices[arc];
+            maxCost = Math.max(maxCost, prices[arc]);
+        }
+
+        for (int producer = 0; producer < producersCount; producer++) {
+            int arc = connectionsCount + producer;
+            source[arc] = producer;
+            target[arc] = surplusNode;
+            capacity[arc] = INFINITE_CAPACITY;
+            cost[arc] = 0;
+        }
+
+        for (int arc = firstArtificialArc; arc < arcsCount; arc++)
+            capacity[arc] = INFINITE_CAPACITY;
+        updateArtificialCost();
+
+        long totalSupply = 0;
+        for (int producer = 0; producer < producersCount; producer++) {
+            supply[producer] = problem.getProduction()[producer];
+            totalSupply += supply[producer];
+        }
+        for (int pharmacy = 0; pharmacy < problem.getPharmaciesCount(); pharmacy++) {
+            supply[producersCount + pharmacy] = -problem.getDemand()[pharmacy];
+            totalSupply -= problem.getDemand()[pharmacy];
+        }
+        supply[surplusNode] = -totalSupply;
+    }
+
+    private void updateArtificialCost() {
+        double artificialCost = (maxCost + 1) * nodesCount;
+        for (int arc = firstArtificialArc; arc < arcsCount; arc++)
+            cost[arc] = artificialCost;
+        epsilon = artificialCost * 1e-12;
+    }
+
+    public int[] solve() {
+        return optimize(new int[connectionsCount]);
+    }
+
+    public int[] optimize(int[] vaccinesSold) {
+        initializeFlows(vaccinesSold);
+        initializeTree();
+        insertFreeArcs();
+
+        return runPivots();
+    }
+
+    public void changePrice(int connection, double price) {
+        cost[connection] = price;
+        if (price > maxCost) {
+            maxCost = price;
+            updateArtificialCost();
+        }
+    }
+
+    public void changeMaxVaccines(int connection, int maxVaccines) {
+        long change = 0;
+        if (flow[connection] > maxVaccines || state[connection] == STATE_UPPER)
+            change = maxVaccines - flow[connection];
+
+        capacity[connection] = maxVaccines;
+        flow[connection] += change;
+        imbalance[source[connection]] -= change;
+        imbalance[target[connection]] += change;
+    }
+
+    public void changeProduction(int producer, int production) {
+        long change = production - supply[producer];
+        supply[producer] += change;
+        supply[surplusNode] -= change;
+        imbalance[producer] += change;
+        imbalance[surplusNode] -= change;
+    }
+
+    public void changeDemand(int pharmacy, int demand) {
+        int node = producersCount + pharmacy;
+        long change = demand + supply[node];
+        supply[node] -= change;
+        supply[surplusNode] += change;
+        imbalance[node] -= change;
+        imbalance[surplusNode] += change;
+    }
+
+    public int[] reoptimize() {
+        for (int node = 0; node < root; node++) {
+            if (imbalance[node] != 0)
+                moveImbalanceToArtificialArc(node);
+        }
+        recalculatePotentials();
+        return runPivots();
+    }
+
+    private void moveImbalanceToArtificialArc(int node) {
+        int arc = firstArtificialArc + node;
+        long outflow = (source[arc] == node ? flow[arc] : -flow[arc]) + imbalance[node];
+        imbalance[node] = 0;
+
+        source[arc] = outflow >= 0 ? node : root;
+        target[arc] = outflow >= 0 ? root : node;
+        flow[arc] = Math.abs(outflow);
+        if (state[arc] == STATE_TREE) {
+            capacity[arc] = INFINITE_CAPACITY;
+            upward[node] = outflow >= 0;
+        } else {
+            capacity[arc] = outflow == 0 ? INFINITE_CAPACITY : flow[arc];
+            state[arc] = outflow == 0 ? STATE_LOWER : STATE_UPPER;
+        }
+    }
+
+    private void recalculatePotentials() {
+        int stackSize = 0;
+        stack[stackSize++] = root;
+        while (stackSize > 0) {
+            int node = stack[--stackSize];
+            if (node != root) {
+                int arc = predecessorArc[node];
+                potential[node] = potential[parent[node]] + (upward[node] ? -cost[arc] : cost[arc]);
+            }
+            for (int child = firstChild[node]; child != -1; child = nextSibling[child])
+                stack[stackSize++] = child;
+        }
+    }
+
+    public void setDeadline(long deadline) {
+        this.deadline = deadline;
+        hasDeadline = true;
+    }
+
+    public void clearDeadline() {
+        hasDeadline = false;
+    }
+
+    public boolean isOptimal() {
+        return optimal;
+    }
+
+    public boolean isFeasible() {
+        for (int arc = firstArtificialArc; arc < arcsCount; arc++) {
+            if (flow[arc] > 0)
+                return false;
+        }
+        return true;
+    }
+
+    private int[] runPivots() {
+        optimal = false;
+        for (int pivots = 1; findEnteringArc(); pivots++) {
+            pivot();
+            if (hasDeadline && pivots % DEADLINE_CHECK_INTERVAL == 0 && System.nanoTime() - deadline > 0)
+                return getVaccinesSold();
+        }
+        optimal = true;
+
+        for (int arc = firstArtificialArc; arc < arcsCount; arc++) {
+            if (flow[arc] > 0)
+                throw new UnsatisfiableDemandException("Nie można zaspokoić zapotrzebowania wszystkich aptek " +
+                        "przy podanych połączeniach!");
+        }
+        return getVaccinesSold();
+    }
+
+    public int[] getVaccinesSold() {
+        int[] vaccinesSold = new int[connectionsCount];
+        for (int arc = 0; arc < connectionsCount; arc++)
+            vaccinesSold[arc] = (int) flow[arc];
+        return vaccinesSold;
+    }
+
+    public double getTotalCost() {
+        double totalCost = 0;
+        for (int arc = 0; arc < connectionsCount; arc++)
+            totalCost += flow[arc] * cost[arc];
+        return totalCost;
+    }
+
+    private void initializeFlows(int[] vaccinesSold) {
+        Arrays.fill(imbalance, 0);
+        long[] excess = supply.clone();
+        for (int arc = 0; arc < connectionsCount; arc++) {
+            flow[arc] = vaccinesSold[arc];
+            excess[source[arc]] -= flow[arc];
+            excess[target[arc]] += flow[arc];
+        }
+        for (int producer = 0; producer < producersCount; producer++) {
+            int arc = connectionsCount + producer;
+            flow[arc] = Math.max(0, excess[producer]);
+            excess[producer] -= flow[arc];
+            excess[surplusNode] += flow[arc];
+        }
+
+        for (int node = 0; node < root; node++) {
+            int arc = firstArtificialArc + node;
+            if (excess[node] >= 0) {
+                source[arc] = node;
+                target[arc] = root;
+                flow[arc] = excess[node];
+            } else {
+                source[arc] = root;
+                target[arc] = node;
+                flow[arc] = -excess[node];
+            }
+        }
+
+        for (int arc = 0; arc < firstArtificialArc; arc++)
+            state[arc] = flow[arc] < capacity[arc] ? STATE_LOWER : STATE_UPPER;
+    }
+
+    private void initializeTree() {
+        parent[root] = -1;
+        predecessorArc[root] = -1;
+        depth[root] = 0;
+        potential[root] = 0;
+        firstChild[root] = -1;
+        nextSibling[root] = -1;
+        previousSibling[root] = -1;
+
+        for (int node = 0; node < root; node++) {
+            int arc = firstArtificialArc + node;
+            state[arc] = STATE_TREE;
+            parent[node] = root;
+            predecessorArc[node] = arc;
+            upward[node] = source[arc] == node;
+            depth[node] = 1;
+            potential[node] = upward[node] ? -cost[arc] : cost[arc];
+            firstChild[node] = -1;
+            addChild(root, node);
+        }
+    }
+
+    private void insertFreeArcs() {
+        for (int arc = 0; arc < firstArtificialArc; arc++) {
+            if (flow[arc] > 0 && flow[arc] < capacity[arc]) {
+                enteringArc = arc;
+                increasing = reducedCost(arc) <= 0;
+                pivot();
+            }
+        }
+    }
+
+    private boolean findEnteringArc() {
+        for (int scanned = 0; scanned < arcsCount; scanned += blockSize) {
+            int length = Math.min(blockSize, arcsCount - scanned);
+            int candidate = findBestArcInBlock(nextArc, length);
+            nextArc = (nextArc + length) % arcsCount;
+
+            if (candidate != -1) {
+                enteringArc = candidate;
+                increasing = state[candidate] == STATE_LOWER;
+                return true;
+            }
+        }
+        return false;
+    }
+
+    private int findBestArcInBlock(int start, int length) {
+        if (start + length <= arcsCount)
+            return findBestArc(start, start + length);
+
+        int candidate = findBestArc(start, arcsCount);
+        int wrappedCandidate = findBestArc(0, start + length - arcsCount);
+        if (candidate == -1 || (wrappedCandidate != -1
+                && getImprovement(wrappedCandidate) > getImprovement(candidate)))
+            return wrappedCandidate;
+        return candidate;
+    }
+
+    private int findBestArc(int from, int to) {
+        if (parallelCalculator != null)
+            return parallelCalculator.argMax(from, to, arcsImprovements, epsilon);
+
+        int candidate = -1;
+        double maxImprovement = epsilon;
+        for (int arc = from; arc < to; arc++) {
+            double improvement = getImprovement(arc);
+            if (improvement > maxImprovement) {
+                maxImprovement = improvement;
+                candidate = arc;
+            }
+        }
+        return candidate;
+    }
+
+    private double getImprovement(int arc) {
+        return -state[arc] * reducedCost(arc);
+    }
+
+    private double reducedCost(int arc) {
+        return cost[arc] + potential[source[arc]] - potential[target[arc]];
+    }
+
+    private void pivot() {
+        first = increasing ? source[enteringArc] : target[enteringArc];
+        second = increasing ? target[enteringArc] : source[enteringArc];
+        findJoinNode();
+
+        long delta = increasing ? capacity[enteringArc] - flow[enteringArc] : flow[enteringArc];
+        int leavingNode = -1;
+        boolean leavingOnFirstSide = false;
+
+        for (int node = first; node != join; node = parent[node]) {
+            int arc = predecessorArc[node];
+            long residual = upward[node] ? flow[arc] : capacity[arc] - flow[arc];
+            if (residual < delta) {
+                delta = residual;
+                leavingNode = node;
+                leavingOnFirstSide = true;
+            }
+        }
+        for (int node = second; node != join; node = parent[node]) {
+            int arc = predecessorArc[node];
+            long residual = upward[node] ? capacity[arc] - flow[arc] : flow[arc];
+            if (residual <= delta) {
+                delta = residual;
+                leavingNode = node;
+                leavingOnFirstSide = false;
+            }
+        }
+
+        if (delta > 0) {
+            flow[enteringArc] += increasing ? delta : -delta;
+            for (int node = first; node != join; node = parent[node])
+                flow[predecessorArc[node]] += upward[node] ? -delta : delta;
+            for (int node = second; node != join; node = parent[node])
+                flow[predecessorArc[node]] += upward[node] ? delta : -delta;
+        }
+
+        if (leavingNode == -1) {
+            state[enteringArc] = increasing ? STATE_UPPER : STATE_LOWER;
+            return;
+        }
+
+        int leavingArc = predecessorArc[leavingNode];
+        state[leavingArc] = flow[leavingArc] == 0 ? STATE_LOWER : STATE_UPPER;
+        state[enteringArc] = STATE_TREE;
+
+        int innerNode = leavingOnFirstSide ? first : second;
+        int outerNode = leavingOnFirstSide ? second : first;
+        double shift = innerNode == target[enteringArc] ? reducedCost(enteringArc) : -reducedCost(enteringArc);
+        updateTree(innerNode, outerNode, leavingNode);
+        updatePotentials(innerNode, shift);
+    }
+
+    private void findJoinNode() {
+        int u = first;
+        int v = second;
+        while (u != v) {
+            if (depth[u] >= depth[v])
+                u = parent[u];
+            else
+                v = parent[v];
+        }
+        join = u;
+    }
+
+    private void updateTree(int innerNode, int outerNode, int leavingNode) {
+        int pathLength = 0;
+        for (int node = innerNode; node != leavingNode; node = parent[node])
+            path[pathLength++] = node;
+        path[pathLength++] = leavingNode;
+
+        removeChild(parent[leavingNode], leavingNode);
+        for (int i = pathLength - 1; i > 0; i--) {
+            int node = path[i];
+            int child = path[i - 1];
+            removeChild(node, child);
+            parent[node] = child;
+            predecessorArc[node] = predecessorArc[child];
+            upward[node] = !upward[child];
+            addChild(child, node);
+        }
+
+        parent[innerNode] = outerNode;
+        predecessorArc[innerNode] = enteringArc;
+        upward[innerNode] = source[enteringArc] == innerNode;
+        addChild(outerNode, innerNode);
+    }
+
+    private void updatePotentials(int subtreeRoot, double shift) {
+        int stackSize = 0;
+        stack[stackSize++] = subtreeRoot;
+        while (stackSize > 0) {
+            int node = stack[--stackSize];
+            potential[node] += shift;
+            depth[node] = depth[parent[node]] + 1;
+            for (int child = firstChild[node]; child != -1; child = nextSibling[child])
+                stack[stackSize++] = child;
+        }
+    }
+
+    private void addChild(int node, int child) {
+        int oldFirstChild = firstChild[node];
+        nextSibling[child] = oldFirstChild;
+        previousSibling[child] = -1;
+        if (oldFirstChild != -1)
+            previousSibling[oldFirstChild] = child;
+        firstChild[node] = child;
+    }
+
+    private void removeChild(int node, int child) {
+        if (previousSibling[child] != -1)
+            nextSibling[previousSibling[child]] = nextSibling[child];
+        else
+            firstChild[node] = nextSibling[child];
+        if (nextSibling[child] != -1)
+            previousSibling[nextSibling[child]] = previousSibling[child];
+    }
+}
@@ -0,0 +1,7 @@
+package app;
+
+import model.TransportationProblem;
+
+public interface TransportationSolver {
+    int[] solve(TransportationProblem problem);
+}
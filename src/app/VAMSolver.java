@@ -0,0 +1,397 @@
+package app;
+
+import exception.UnsatisfiableDemandException;
+import model.TransportationProblem;
+
+public class VAMSolver implements TransportationSolver {
+    private static final double EXCLUDED = -1;
+    private static final int DEADLINE_CHECK_INTERVAL = 64;
+
+    private ParallelCalculator parallelCalculator;
+    private SolverMetrics metrics;
+    private ParallelCalculator.RangeAction producersCalculation = this::calculateProducersVAMValues;
+    private ParallelCalculator.RangeAction pharmaciesCalculation = this::calculatePharmaciesVAMValues;
+    private ParallelCalculator.RangeAction changedProducersCalculation = this::calculateChangedProducersVAMValues;
+    private ParallelCalculator.RangeAction changedPharmaciesCalculation = this::calculateChangedPharmaciesVAMValues;
+
+    private int[] connectionsProducers;
+    private int[] connectionsPharmacies;
+    private int[] maxVaccines;
+    private double[] prices;
+    private int[] producersOffsets;
+    private int[] pharmaciesOffsets;
+    private int[] pharmaciesIds;
+    private int[] demand;
+
+    private int[] stock;
+    private int[] vaccinesAmount;
+    private int[] vaccinesSold;
+    private IndexedMaxHeap producersVAMValues;
+    private IndexedMaxHeap pharmaciesVAMValues;
+    private double[] calculatedProducersVAMValues;
+    private double[] calculatedPharmaciesVAMValues;
+    private int unsatisfiedPharmacies;
+
+    private int[] producersSortedConnections;
+    private int[] pharmaciesSortedConnections;
+    private int[] producersPositions;
+    private int[] pharmaciesPositions;
+    private int[] producersCheapest;
+    private int[] producersSecondCheapest;
+    private int[] pharmaciesCheapest;
+    private int[] pharmaciesSecondCheapest;
+
+    private boolean[] producersChanged;
+    private boolean[] pharmaciesChanged;
+    private int[] changedProducers;
+    private int[] changedPharmacies;
+    private int changedProducersCount;
+    private int changedPharmaciesCount;
+
+    public VAMSolver() {
+    }
+
+    public VAMSolver(ParallelCalculator parallelCalculator) {
+        this.parallelCalculator = parallelCalculator;
+    }
+
+    public void setMetrics(SolverMetrics metrics) {
+        this.metrics = metrics;
+    }
+
+    @Override
+    public int[] solve(TransportationProblem problem) {
+        if (metrics != null)
+            return solveWithMetrics(problem);
+
+        initialize(problem);
+        calculateProducersVAMValues();
+        calculatePharmaciesVAMValues();
+        while (unsatisfiedPharmacies > 0) {
+            sellVaccines(selectConnection());
+            recalculateChangedVAMValues();
+        }
+        return vaccinesSold;
+    }
+
+    public int[] solveBefore(TransportationProblem problem, long deadline) {
+        initialize(problem);
+        calculateProducersVAMValues();
+        calculatePharmaciesVAMValues();
+        for (int iteration = 1; unsatisfiedPharmacies > 0; iteration++) {
+            if (iteration % DEADLINE_CHECK_INTERVAL == 0 && System.nanoTime() - deadline > 0)
+                return null;
+            sellVaccines(selectConnection());
+            recalculateChangedVAMValues();
+        }
+        return vaccinesSold;
+    }
+
+    private int[] solveWithMetrics(TransportationProblem problem) {
+        long start = System.nanoTime();
+        initialize(problem);
+        long time = System.nanoTime();
+        metrics.addPhaseTime(SolverMetrics.Phase.PREPARATION, time - start);
+
+        calculateProducersVAMValues();
+        calculatePharmaciesVAMValues();
+        long penaltyTime = System.nanoTime() - time;
+        long selectionTime = 0;
+        long allocationTime = 0;
+        long iterations = 0;
+        long allocatedBytes = metrics.getCurrentThreadAllocatedBytes();
+        while (unsatisfiedPharmacies > 0) {
+            time = System.nanoTime();
+            int connection = selectConnection();
+            long selected = System.nanoTime();
+            sellVaccines(connection);
+            long sold = System.nanoTime();
+            recalculateChangedVAMValues();
+            penaltyTime += System.nanoTime() - sold;
+            selectionTime += selected - time;
+            allocationTime += sold - selected;
+            iterations++;
+        }
+
+        metrics.addPhaseTime(SolverMetrics.Phase.PENALTY, penaltyTime);
+        metrics.addPhaseTime(SolverMetrics.Phase.SELECTION, selectionTime);
+        metrics.addPhaseTime(SolverMetrics.Phase.ALLOCATION, allocationTime);
+        metrics.addVAMIterations(iterations, allocatedBytes == -1 ? -1 :
+                metrics.getCurrentThreadAllocatedBytes() - allocatedBytes);
+        return vaccinesSold;
+    }
+
+    private void initialize(TransportationProblem problem) {
+        connectionsProducers = problem.getConnectionsProducers();
+        connectionsPharmacies = problem.getConnectionsPharmacies();
+        maxVaccines = problem.getMaxVaccines();
+        prices = problem.getCosts();
+        producersOffsets = problem.getProducersOffsets();
+        pharmaciesOffsets = problem.getPharmaciesOffsets();
+        pharmaciesIds = problem.getPharmaciesIds();
+        demand = problem.getDemand();
+
+        stock = problem.getProduction().clone();
+        vaccinesAmount = new int[problem.getPharmaciesCount()];
+        vaccinesSold = new int[problem.getConnectionsCount()];
+        producersVAMValues = new IndexedMaxHeap(problem.getProducersCount());
+        pharmaciesVAMValues = new IndexedMaxHeap(problem.getPharmaciesCount());
+        calculatedProducersVAMValues = new double[problem.getProducersCount()];
+        calculatedPharmaciesVAMValues = new double[problem.getPharmaciesCount()];
+
+        unsatisfiedPharmacies = 0;
+        for (int pharmacy = 0; pharmacy < demand.length; pharmacy++)
+            if (demand[pharmacy] > 0)
+                unsatisfiedPharmacies++;
+
+        producersSortedConnections = sortConnectionsByPrice(producersOffsets, problem.getProducersConnections());
+        pharmaciesSortedConnections = sortConnectionsByPrice(pharmaciesOffsets, problem.getPharmaciesConnections());
+        producersPositions = getPositions(producersSortedConnections);
+        pharmaciesPositions = getPositions(pharmaciesSortedConnections);
+
+        producersCheapest = new int[problem.getProducersCount()];
+        producersSecondCheapest = new int[problem.getProducersCount()];
+        for (int producer = 0; producer < producersCheapest.length; producer++)
+            producersCheapest[producer] = producersSecondCheapest[producer] = producersOffsets[producer];
+        pharmaciesCheapest = new int[problem.getPharmaciesCount()];
+        pharmaciesSecondCheapest = new int[problem.getPharmaciesCount()];
+        for (int pharmacy = 0; pharmacy < pharmaciesCheapest.length; pharmacy++)
+            pharmaciesCheapest[pharmacy] = pharmaciesSecondCheapest[pharmacy] = pharmaciesOffsets[pharmacy];
+
+        producersChanged = new boolean[problem.getProducersCount()];
+        pharmaciesChanged = new boolean[problem.getPharmaciesCount()];
+        changedProducers = new int[problem.getProducersCount()];
+        changedPharmacies = new int[problem.getPharmaciesCount()];
+        changedProducersCount = 0;
+        changedPharmaciesCount = 0;
+    }
+
+    private void forEachRange(int from, int to, ParallelCalculator.RangeAction action) {
+        if (parallelCalculator == null)
+            action.compute(from, to);
+        else
+            parallelCalculator.forEachRange(from, to, action);
+    }
+
+    private int maxRowLength(int[] offsets, int from, int to) {
+        int maxLength = 0;
+        for (int i = from; i < to; i++)
+            maxLength = Math.max(maxLength, offsets[i + 1] - offsets[i]);
+        return maxLength;
+    }
+
+    private int[] sortConnectionsByPrice(int[] offsets, int[] connections) {
+        int[] sorted = connections.clone();
+        forEachRange(0, offsets.length - 1, (from, to) -> {
+            int[] buffer = new int[maxRowLength(offsets, from, to)];
+            for (int owner = from; owner < to; owner++)
+                mergeSortByPrice(sorted, offsets[owner], offsets[owner + 1], buffer);
+        });
+        return sorted;
+    }
+
+    private void mergeSortByPrice(int[] connections, int from, int to, int[] buffer) {
+        if (to - from < 16) {
+            for (int i = from + 1; i < to; i++) {
+                int connection = connections[i];
+                int j = i - 1;
+                while (j >= from && prices[connections[j]] > prices[connection]) {
+                    connections[j + 1] = connections[j];
+                    j--;
+                }
+                connections[j + 1] = connection;
+            }
+            return;
+        }
+
+        int middle = (from + to) >>> 1;
+        mergeSortByPrice(connections, from, middle, buffer);
+        mergeSortByPrice(connections, middle, to, buffer);
+        if (prices[connections[middle - 1]] <= prices[connections[middle]])
+            return;
+
+        System.arraycopy(connections, from, buffer, 0, middle - from);
+        int left = 0;
+        int leftEnd = middle - from;
+        int right = middle;
+        int target = from;
+        while (left < leftEnd && right < to)
+            connections[target++] = prices[connections[right]] < prices[buffer[left]] ? connections[right++]
+                    : buffer[left++];
+        while (left < leftEnd)
+            connections[target++] = buffer[left++];
+    }
+
+    private int[] getPositions(int[] sortedConnections) {
+        int[] positions = new int[sortedConnections.length];
+        for (int i = 0; i < sortedConnections.length; i++)
+            positions[sortedConnections[i]] = i;
+        return positions;
+    }
+
+    private void calculateProducersVAMValues() {
+        forEachRange(0, producersCheapest.length, producersCalculation);
+        for (int producer = 0; producer < producersCheapest.length; producer++)
+            updateProducerVAMValue(producer);
+    }
+
+    private void calculatePharmaciesVAMValues() {
+        forEachRange(0, pharmaciesCheapest.length, pharmaciesCalculation);
+        for (int pharmacy = 0; pharmacy < pharmaciesCheapest.length; pharmacy++)
+            updatePharmacyVAMValue(pharmacy);
+    }
+
+    private void calculateProducersVAMValues(int from, int to) {
+        for (int producer = from; producer < to; producer++)
+            calculateProducerVAMValue(producer);
+    }
+
+    private void calculatePharmaciesVAMValues(int from, int to) {
+        for (int pharmacy = from; pharmacy < to; pharmacy++)
+            calculatePharmacyVAMValue(pharmacy);
+    }
+
+    private void calculateChangedProducersVAMValues(int from, int to) {
+        for (int i = from; i < to; i++)
+            calculateProducerVAMValue(changedProducers[i]);
+    }
+
+    private void calculateChangedPharmaciesVAMValues(int from, int to) {
+        for (int i = from; i < to; i++)
+            calculatePharmacyVAMValue(changedPharmacies[i]);
+    }
+
+    private void recalculateChangedVAMValues() {
+        forEachRange(0, changedProducersCount, changedProducersCalculation);
+        for (int i = 0; i < changedProducersCount; i++) {
+            producersChanged[changedProducers[i]] = false;
+            updateProducerVAMValue(changedProducers[i]);
+        }
+        changedProducersCount = 0;
+
+        forEachRange(0, changedPharmaciesCount, changedPharmaciesCalculation);
+        for (int i = 0; i < changedPharmaciesCount; i++) {
+            pharmaciesChanged[changedPharmacies[i]] = false;
+            updatePharmacyVAMValue(changedPharmacies[i]);
+        }
+        changedPharmaciesCount = 0;
+    }
+
+    private void calculateProducerVAMValue(int producer) {
+        if (stock[producer] > 0)
+            calculatedProducersVAMValues[producer] = calculateVAMValue(producer, producersOffsets,
+                    producersSortedConnections, producersCheapest, producersSecondCheapest);
+        else
+            calculatedProducersVAMValues[producer] = EXCLUDED;
+    }
+
+    private void calculatePharmacyVAMValue(int pharmacy) {
+        if (vaccinesAmount[pharmacy] < demand[pharmacy])
+            calculatedPharmaciesVAMValues[pharmacy] = calculateVAMValue(pharmacy, pharmaciesOffsets,
+                    pharmaciesSortedConnections, pharmaciesCheapest, pharmaciesSecondCheapest);
+        else
+            calculatedPharmaciesVAMValues[pharmacy] = EXCLUDED;
+    }
+
+    private void updateProducerVAMValue(int producer) {
+        if (calculatedProducersVAMValues[producer] == EXCLUDED)
+            producersVAMValues.remove(producer);
+        else
+            producersVAMValues.set(producer, calculatedProducersVAMValues[producer]);
+    }
+
+    private void updatePharmacyVAMValue(int pharmacy) {
+        if (calculatedPharmaciesVAMValues[pharmacy] != EXCLUDED) {
+            pharmaciesVAMValues.set(pharmacy, calculatedPharmaciesVAMValues[pharmacy]);
+        } else if (vaccinesAmount[pharmacy] < demand[pharmacy]) {
+            throw new UnsatisfiableDemandException("Nie można zaspokoić zapotrzebowania apteki o numerze id "
+                    + pharmaciesIds[pharmacy] + " - wszystkie jej połączenia zostały wyczerpane!");
+        } else {
+            pharmaciesVAMValues.remove(pharmacy);
+        }
+    }
+
+    private double calculateVAMValue(int owner, int[] offsets, int[] sortedConnections, int[] cheapest,
+                                     int[] secondCheapest) {
+        int end = offsets[owner + 1];
+        int first = cheapest[owner];
+        while (first < end && !connectionValid(sortedConnections[first]))
+            first++;
+        int second = Math.max(secondCheapest[owner], first + 1);
+        while (second < end && !connectionValid(sortedConnections[second]))
+            second++;
+
+        cheapest[owner] = first;
+        secondCheapest[owner] = second;
+
+        if (second < end)
+            return prices[sortedConnections[second]] - prices[sortedConnections[first]];
+        else if (first < end)
+            return prices[sortedConnections[first]];
+        return EXCLUDED;
+    }
+
+    private int selectConnection() {
+        if (!producersVAMValues.isEmpty() && producersVAMValues.peekKey() >= pharmaciesVAMValues.peekKey())
+            return producersSortedConnections[producersCheapest[producersVAMValues.peek()]];
+        return pharmaciesSortedConnections[pharmaciesCheapest[pharmaciesVAMValues.peek()]];
+    }
+
+    private void sellVaccines(int connection) {
+        int producer = connectionsProducers[connection];
+        int pharmacy = connectionsPharmacies[connection];
+
+        int maxAmountPossibleToSell = Math.min(demand[pharmacy] - vaccinesAmount[pharmacy], stock[producer]);
+        maxAmountPossibleToSell = Math.min(maxAmountPossibleToSell, maxVaccines[connection] - vaccinesSold[connection]);
+
+        stock[producer] -= maxAmountPossibleToSell;
+        vaccinesAmount[pharmacy] += maxAmountPossibleToSell;
+        vaccinesSold[connection] += maxAmountPossibleToSell;
+
+        markProducerChanged(producer);
+        markPharmacyChanged(pharmacy);
+
+        if (stock[producer] == 0) {
+            for (int i = producersOffsets[producer]; i < producersOffsets[producer + 1]; i++) {
+                int producerConnection = producersSortedConnections[i];
+                int otherPharmacy = connectionsPharmacies[producerConnection];
+                int position = pharmaciesPositions[producerConnection];
+                if (position == pharmaciesCheapest[otherPharmacy]
+                        || position == pharmaciesSecondCheapest[otherPharmacy])
+                    markPharmacyChanged(otherPharmacy);
+            }
+        }
+
+        if (vaccinesAmount[pharmacy] == demand[pharmacy]) {
+            unsatisfiedPharmacies--;
+            for (int i = pharmaciesOffsets[pharmacy]; i < pharmaciesOffsets[pharmacy + 1]; i++) {
+                int pharmacyConnection = pharmaciesSortedConnections[i];
+                int otherProducer = connectionsProducers[pharmacyConnection];
+                int position = producersPositions[pharmacyConnection];
+                if (position == producersCheapest[otherProducer]
+                        || position == producersSecondCheapest[otherProducer])
+                    markProducerChanged(otherProducer);
+            }
+        }
+    }
+
+    private void markProducerChanged(int producer) {
+        if (!producersChanged[producer]) {
+            producersChanged[producer] = true;
+            changedProducers[changedProducersCount++] = producer;
+        }
+    }
+
+    private void markPharmacyChanged(int pharmacy) {
+        if (!pharmaciesChanged[pharmacy]) {
+            pharmaciesChanged[pharmacy] = true;
+            changedPharmacies[changedPharmaciesCount++] = pharmacy;
+        }
+    }
+
+    private boolean connectionValid(int connection) {
+        return vaccinesSold[connection] < maxVaccines[connection]
+                && vaccinesAmount[connectionsPharmacies[connection]] < demand[connectionsPharmacies[connection]]
+                && stock[connectionsProducers[connection]] > 0;
+    }
+}
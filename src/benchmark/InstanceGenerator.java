@@ -0,0 +1,133 @@
+package benchmark;
+
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Random;
+
+public class InstanceGenerator {
+    public enum PriceDistribution {
+        UNIFORM, NORMAL, CLUSTERED, DISTANCE
+    }
+
+    private int producersCount;
+    private int pharmaciesCount;
+    private double density;
+    private PriceDistribution priceDistribution;
+    private long seed;
+
+    public InstanceGenerator(int producersCount, int pharmaciesCount, double density,
+                             PriceDistribution priceDistribution, long seed) {
+        if (producersCount <= 0 || pharmaciesCount <= 0)
+            throw new IllegalArgumentException("Liczba producentów i aptek musi być dodatnia!");
+        if (density <= 0 || density > 1)
+            throw new IllegalArgumentException("Gęstość połączeń musi należeć do przedziału (0, 1]!");
+
+        this.producersCount = producersCount;
+        this.pharmaciesCount = pharmaciesCount;
+        this.density = density;
+        this.priceDistribution = priceDistribution;
+        this.seed = seed;
+    }
+
+    public boolean isSparse() {
+        return density < 1;
+    }
+
+    public void write(Path path) throws IOException {
+        Random random = new Random(seed);
+        int[] demand = new int[pharmaciesCount];
+        long[] assignedDemand = new long[producersCount];
+        for (int i = 0; i < pharmaciesCount; i++) {
+            demand[i] = 20 + random.nextInt(281);
+            assignedDemand[getDedicatedProducer(i)] += demand[i];
+        }
+
+        int[] production = new int[producersCount];
+        for (int i = 0; i < producersCount; i++)
+            production[i] = (int) Math.min(Integer.MAX_VALUE, Math.max(assignedDemand[i], 50 + random.nextInt(451)));
+
+        int[] producersIds = getShuffledIds(producersCount, random);
+        int[] pharmaciesIds = getShuffledIds(pharmaciesCount, random);
+
+        try (BufferedWriter writer = Files.newBufferedWriter(path, StandardCharsets.UTF_8)) {
+            writer.write("# Producenci szczepionek (id | nazwa | dzienna produkcja)\n");
+            for (int i = 0; i < producersCount; i++)
+                writeParticipant(writer, producersIds[i], "Producent", production[producersIds[i]]);
+
+            writer.write("# Apteki (id | nazwa | dzienne zapotrzebowanie)\n");
+            for (int i = 0; i < pharmaciesCount; i++)
+                writeParticipant(writer, pharmaciesIds[i], "Apteka", demand[pharmaciesIds[i]]);
+
+            writer.write("# Połączenia producentów i aptek (id producenta | id apteki | dzienna maksymalna " +
+                    "liczba dostarczanych szczepionek | koszt szczepionki [zł] )\n");
+            for (int producer = 0; producer < producersCount; producer++) {
+                for (int pharmacy = 0; pharmacy < pharmaciesCount; pharmacy++) {
+                    boolean dedicated = getDedicatedProducer(pharmacy) == producer;
+                    if (!dedicated && isSparse() && random.nextDouble() >= density)
+                        continue;
+
+                    int maxVaccines = dedicated ? demand[pharmacy] + random.nextInt(50) :
+                                                  demand[pharmacy] / 3 + random.nextInt(2 * demand[pharmacy]);
+                    writeConnection(writer, producer, pharmacy, maxVaccines, getPrice(producer, pharmacy, random));
+                }
+            }
+        }
+    }
+
+    private int getDedicatedProducer(int pharmacy) {
+        return pharmacy % producersCount;
+    }
+
+    private int[] getShuffledIds(int count, Random random) {
+        int[] ids = new int[count];
+        for (int i = 0; i < count; i++)
+            ids[i] = i;
+        for (int i = count - 1; i > 0; i--) {
+            int j = random.nextInt(i + 1);
+            int id = ids[i];
+            ids[i] = ids[j];
+            ids[j] = id;
+        }
+        return ids;
+    }
+
+    private long getPrice(int producer, int pharmacy, Random random) {
+        switch (priceDistribution) {
+            case NORMAL:
+                return Math.max(1, Math.round(10000 + random.nextGaussian() * 3000));
+            case CLUSTERED:
+                return 500 * (1 + random.nextInt(8));
+            case DISTANCE:
+                double distance = Math.abs((double) producer / producersCount - (double) pharmacy / pharmaciesCount);
+                return 100 + Math.round(distance * 19000) + random.nextInt(500);
+            default:
+                return 100 + random.nextInt(19901);
+        }
+    }
+
+    private void writeParticipant(BufferedWriter writer, int id, String name, int value) throws IOException {
+        writer.write(id + " | " + name + " " + id + " | " + value + "\n");
+    }
+
+    private void writeConnection(BufferedWriter writer, int producer, int pharmacy, int maxVaccines,
+                                 long priceInGrosze) throws IOException {
+        writer.write(producer + " | " + pharmacy + " | " + maxVaccines + " | " + priceInGrosze / 100 + "." +
+                (priceInGrosze % 100 < 10 ? "0" : "") + priceInGrosze % 100 + "\n");
+    }
+
+    public static void main(String[] args) throws IOException {
+        if (args.length < 6) {
+            System.err.println("Użycie: InstanceGenerator <plik> <producenci> <apteki> <gęstość> " +
+                    "<uniform|normal|clustered|distance> <ziarno>");
+            System.exit(1);
+        }
+
+        InstanceGenerator generator = new InstanceGenerator(Integer.parseInt(args[1]), Integer.parseInt(args[2]),
+                Double.parseDouble(args[3]), PriceDistribution.valueOf(args[4].toUpperCase()),
+                Long.parseLong(args[5]));
+        generator.write(Path.of(args[0]));
+    }
+}
@@ -0,0 +1,7 @@
+package exception;
+
+public class DataFileException extends RuntimeException {
+    public DataFileException(String message, Throwable cause) {
+        super(message, cause);
+    }
+}
@@ -0,0 +1,11 @@
+package exception;
+
+public class SolverServerException extends RuntimeException {
+    public SolverServerException(String message) {
+        super(message);
+    }
+
+    public SolverServerException(String message, Throwable cause) {
+        super(message, cause);
+    }
+}
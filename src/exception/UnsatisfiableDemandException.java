@@ -0,0 +1,7 @@
+package exception;
+
+public class UnsatisfiableDemandException extends RuntimeException {
+    public UnsatisfiableDemandException(String message) {
+        super(message);
+    }
+}
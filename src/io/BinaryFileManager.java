@@ -0,0 +1,282 @@
+package io;
+
+import model.TransportationProblem;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.HashMap;
+import java.util.Map;
+
+public class BinaryFileManager {
+    private static final int MAGIC = 0x42434156;
+    private static final int VERSION = 1;
+    private static final int HEADER_SIZE = 32;
+    private static final int CHUNK_SIZE = 1 << 30;
+    private static final int WRITE_BUFFER_SIZE = 1 << 20;
+
+    private FileChannel channel;
+    private ByteBuffer source;
+    private long size;
+    private long position;
+    private ByteBuffer writeBuffer;
+
+    public boolean isBinaryFile(FileChannel channel) throws IOException {
+        if (channel.size() < HEADER_SIZE)
+            return false;
+
+        ByteBuffer magic = ByteBuffer.allocate(Integer.BYTES).order(ByteOrder.LITTLE_ENDIAN);
+        channel.read(magic, 0);
+        return magic.getInt(0) == MAGIC;
+    }
+
+    public boolean isBinaryData(ByteBuffer buffer) {
+        return buffer.limit() >= HEADER_SIZE && buffer.duplicate().order(ByteOrder.LITTLE_ENDIAN).getInt(0) == MAGIC;
+    }
+
+    public void writeProblem(TransportationProblem problem, String fileName) throws IOException {
+        Map<String, Integer> dictionary = new HashMap<>();
+        int[] producersNames = getNamesIndices(problem.getProducersNames(), dictionary);
+        int[] pharmaciesNames = getNamesIndices(problem.getPharmaciesNames(), dictionary);
+        byte[][] names = new byte[dictionary.size()][];
+        for (Map.Entry<String, Integer> entry : dictionary.entrySet())
+            names[entry.getValue()] = entry.getKey().getBytes(StandardCharsets.UTF_8);
+
+        int[] namesOffsets = new int[names.length + 1];
+        for (int i = 0; i < names.length; i++)
+            namesOffsets[i + 1] = namesOffsets[i] + names[i].length;
+
+        try (FileChannel channel = FileChannel.open(Path.of(fileName), StandardOpenOption.WRITE,
+                StandardOpenOption.CREATE, StandardOpenOption.TRUNCATE_EXISTING)) {
+            this.channel = channel;
+            position = 0;
+            writeBuffer = ByteBuffer.allocateDirect(WRITE_BUFFER_SIZE).order(ByteOrder.LITTLE_ENDIAN);
+            writeBuffer.putInt(MAGIC).putInt(VERSION);
+            writeBuffer.putInt(problem.getProducersCount()).putInt(problem.getPharmaciesCount());
+            writeBuffer.putInt(problem.getConnectionsCount()).putInt(names.length);
+            writeBuffer.putLong(namesOffsets[names.length]);
+
+            writeInts(problem.getProducersIds());
+            writeInts(problem.getProduction());
+            writeInts(producersNames);
+            writeInts(problem.getPharmaciesIds());
+            writeInts(problem.getDemand());
+            writeInts(pharmaciesNames);
+            writeInts(namesOffsets);
+            for (byte[] name : names)
+                writeBytes(name);
+            writeInts(problem.getConnectionsProducers());
+            writeInts(problem.getConnectionsPharmacies());
+            writeInts(problem.getMaxVaccines());
+            writeDoubles(problem.getPrices());
+            flush();
+        } finally {
+            this.channel = null;
+            writeBuffer = null;
+        }
+    }
+
+    private int[] getNamesIndices(String[] names, Map<String, Integer> dictionary) {
+        int[] indices = new int[names.length];
+        for (int i = 0; i < names.length; i++) {
+            Integer index = dictionary.putIfAbsent(names[i], dictionary.size());
+            indices[i] = index == null ? dictionary.size() - 1 : index;
+        }
+        return indices;
+    }
+
+    private void writeInts(int[] values) throws IOException {
+        alignWriteBuffer();
+        int written = 0;
+        while (written < values.length) {
+            if (writeBuffer.remaining() < Integer.BYTES)
+                flush();
+            int count = Math.min(values.length - written, writeBuffer.remaining() / Integer.BYTES);
+            writeBuffer.asIntBuffer().put(values, written, count);
+            writeBuffer.position(writeBuffer.position() + count * Integer.BYTES);
+            written += count;
+        }
+    }
+
+    private void writeDoubles(double[] values) throws IOException {
+        alignWriteBuffer();
+        int written = 0;
+        while (written < values.length) {
+            if (writeBuffer.remaining() < Double.BYTES)
+                flush();
+            int count = Math.min(values.length - written, writeBuffer.remaining() / Double.BYTES);
+            writeBuffer.asDoubleBuffer().put(values, written, count);
+            writeBuffer.position(writeBuffer.position() + count * Double.BYTES);
+            written += count;
+        }
+    }
+
+    private void writeBytes(byte[] values) throws IOException {
+        int written = 0;
+        while (written < values.length) {
+            if (!writeBuffer.hasRemaining())
+                flush();
+            int count = Math.min(values.length - written, writeBuffer.remaining());
+            writeBuffer.put(values, written, count);
+            written += count;
+        }
+    }
+
+    private void alignWriteBuffer() throws IOException {
+        while ((position + writeBuffer.position()) % Long.BYTES != 0) {
+            if (!writeBuffer.hasRemaining())
+                flush();
+            writeBuffer.put((byte) 0);
+        }
+    }
+
+    private void flush() throws IOException {
+        writeBuffer.flip();
+        while (writeBuffer.hasRemaining())
+            position += channel.write(writeBuffer);
+        writeBuffer.clear();
+    }
+
+    public TransportationProblem readProblem(FileChannel channel, String fileName) throws IOException {
+        try {
+            this.channel = channel;
+            size = channel.size();
+            return readProblem(fileName);
+        } finally {
+            this.channel = null;
+        }
+    }
+
+    public TransportationProblem readProblem(ByteBuffer buffer, String name) throws IOException {
+        try {
+            source = buffer;
+            size = buffer.limit();
+            return readProblem(name);
+        } finally {
+            source = null;
+        }
+    }
+
+    private TransportationProblem readProblem(String fileName) throws IOException {
+        ByteBuffer header = map(0, HEADER_SIZE);
+        if (header.getInt() != MAGIC)
+            throw new IllegalArgumentException("Plik " + fileName + " nie jest plikiem binarnym z danymi!");
+        int version = header.getInt();
+        if (version != VERSION)
+            throw new IllegalArgumentException("Nieobsługiwana wersja pliku binarnego: " + version);
+
+        int producersCount = header.getInt();
+        int pharmaciesCount = header.getInt();
+        int connectionsCount = header.getInt();
+        int namesCount = header.getInt();
+        long namesLength = header.getLong();
+        if (producersCount <= 0 || pharmaciesCount <= 0 || connectionsCount < 0 || namesCount < 0 ||
+                namesLength < 0 || namesLength > Integer.MAX_VALUE)
+            throw new IllegalArgumentException("Uszkodzony nagłówek pliku binarnego " + fileName);
+        position = HEADER_SIZE;
+
+        int[] producersIds = readInts(producersCount);
+        int[] production = readInts(producersCount);
+        int[] producersNamesIndices = readInts(producersCount);
+        int[] pharmaciesIds = readInts(pharmaciesCount);
+        int[] demand = readInts(pharmaciesCount);
+        int[] pharmaciesNamesIndices = readInts(pharmaciesCount);
+        int[] namesOffsets = readInts(namesCount + 1);
+        byte[] namesBytes = readBytes((int) namesLength);
+        int[] connectionsProducers = readInts(connectionsCount);
+        int[] connectionsPharmacies = readInts(connectionsCount);
+        int[] maxVaccines = readInts(connectionsCount);
+        double[] prices = readDoubles(connectionsCount);
+
+        String[] names = getNames(namesOffsets, namesBytes, fileName);
+        checkOrdinals(connectionsProducers, producersCount, fileName);
+        checkOrdinals(connectionsPharmacies, pharmaciesCount, fileName);
+        checkOrdinals(producersNamesIndices, namesCount, fileName);
+        checkOrdinals(pharmaciesNamesIndices, namesCount, fileName);
+
+        return new TransportationProblem(producersIds, getParticipantsNames(names, producersNamesIndices),
+                production, pharmaciesIds, getParticipantsNames(names, pharmaciesNamesIndices), demand,
+                connectionsProducers, connectionsPharmacies, maxVaccines, prices);
+    }
+
+    private ByteBuffer map(long start, long length) throws IOException {
+        if (start + length > size)
+            throw new IllegalArgumentException("Plik binarny jest niekompletny! Oczekiwano co najmniej " +
+                    (start + length) + " bajtów");
+        if (source != null)
+            return source.slice((int) start, (int) length).order(ByteOrder.LITTLE_ENDIAN);
+        return channel.map(FileChannel.MapMode.READ_ONLY, start, length).order(ByteOrder.LITTLE_ENDIAN);
+    }
+
+    private void alignPosition() {
+        position = (position + Long.BYTES - 1) / Long.BYTES * Long.BYTES;
+    }
+
+    private int[] readInts(int count) throws IOException {
+        alignPosition();
+        int[] values = new int[count];
+        int read = 0;
+        while (read < count) {
+            int chunk = Math.min(count - read, CHUNK_SIZE / Integer.BYTES);
+            map(position, (long) chunk * Integer.BYTES).asIntBuffer().get(values, read, chunk);
+            position += (long) chunk * Integer.BYTES;
+            read += chunk;
+        }
+        return values;
+    }
+
+    private double[] readDoubles(int count) throws IOException {
+        alignPosition();
+        double[] values = new double[count];
+        int read = 0;
+        while (read < count) {
+            int chunk = Math.min(count - read, CHUNK_SIZE / Double.BYTES);
+            map(position, (long) chunk * Double.BYTES).asDoubleBuffer().get(values, read, chunk);
+            position += (long) chunk * Double.BYTES;
+            read += chunk;
+        }
+        return values;
+    }
+
+    private byte[] readBytes(int count) throws IOException {
+        byte[] values = new byte[count];
+        int read = 0;
+        while (read < count) {
+            int chunk = Math.min(count - read, CHUNK_SIZE);
+            map(position, chunk).get(values, read, chunk);
+            position += chunk;
+            read += chunk;
+        }
+        return values;
+    }
+
+    private String[] getNames(int[] namesOffsets, byte[] namesBytes, String fileName) {
+        String[] names = new String[namesOffsets.length - 1];
+        for (int i = 0; i < names.length; i++) {
+            if (namesOffsets[i] < 0 || namesOffsets[i] > namesOffsets[i + 1] || namesOffsets[i + 1] > namesBytes.length)
+                throw new IllegalArgumentException("Uszkodzony słownik nazw w pliku binarnym " + fileName);
+            names[i] = new String(namesBytes, namesOffsets[i], namesOffsets[i + 1] - namesOffsets[i],
+                    StandardCharsets.UTF_8);
+        }
+        return names;
+    }
+
+    private String[] getParticipantsNames(String[] names, int[] indices) {
+        String[] participantsNames = new String[indices.length];
+        for (int i = 0; i < indices.length; i++)
+            participantsNames[i] = names[indices[i]];
+        return participantsNames;
+    }
+
+    private void checkOrdinals(int[] ordinals, int count, String fileName) {
+        for (int ordinal : ordinals) {
+            if (ordinal < 0 || ordinal >= count)
+                throw new IllegalArgumentException("Uszkodzone dane w pliku binarnym " + fileName + "! Indeks " +
+                        ordinal + " spoza zakresu");
+        }
+    }
+}
@@ -0,0 +1,75 @@
+package io;
+
+import java.util.Arrays;
+
+class ConnectionsBuffer {
+    private int[] producers;
+    private int[] pharmacies;
+    private int[] maxVaccines;
+    private double[] prices;
+    private long[] pricesCents;
+    private int count;
+
+    ConnectionsBuffer(int capacity, boolean exactPrices) {
+        capacity = Math.max(1, capacity);
+        producers = new int[capacity];
+        pharmacies = new int[capacity];
+        maxVaccines = new int[capacity];
+        prices = new double[capacity];
+        if (exactPrices)
+            pricesCents = new long[capacity];
+    }
+
+    void add(int producer, int pharmacy, int maxVaccinesNumber, double price, long priceCents) {
+        if (count == producers.length) {
+            int capacity = count * 2;
+            producers = Arrays.copyOf(producers, capacity);
+            pharmacies = Arrays.copyOf(pharmacies, capacity);
+            maxVaccines = Arrays.copyOf(maxVaccines, capacity);
+            prices = Arrays.copyOf(prices, capacity);
+            if (pricesCents != null)
+                pricesCents = Arrays.copyOf(pricesCents, capacity);
+        }
+        producers[count] = producer;
+        pharmacies[count] = pharmacy;
+        maxVaccines[count] = maxVaccinesNumber;
+        prices[count] = price;
+        if (pricesCents != null)
+            pricesCents[count] = priceCents;
+        count++;
+    }
+
+    void append(ConnectionsBuffer buffer, int offset) {
+        System.arraycopy(buffer.producers, 0, producers, offset, buffer.count);
+        System.arraycopy(buffer.pharmacies, 0, pharmacies, offset, buffer.count);
+        System.arraycopy(buffer.maxVaccines, 0, maxVaccines, offset, buffer.count);
+        System.arraycopy(buffer.prices, 0, prices, offset, buffer.count);
+        if (pricesCents != null)
+            System.arraycopy(buffer.pricesCents, 0, pricesCents, offset, buffer.count);
+        count = Math.max(count, offset + buffer.count);
+    }
+
+    int[] getProducers() {
+        return producers;
+    }
+
+    int[] getPharmacies() {
+        return pharmacies;
+    }
+
+    int[] getMaxVaccines() {
+        return maxVaccines;
+    }
+
+    double[] getPrices() {
+        return prices;
+    }
+
+    long[] getPricesCents() {
+        return pricesCents;
+    }
+
+    int getCount() {
+        return count;
+    }
+}
@@ -0,0 +1,59 @@
+package io;
+
+import model.TransportationProblem;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+
+public class CsvResultWriter implements ResultWriter {
+    private static final byte[] HEADER = ("producer_id,producer_name,pharmacy_id,pharmacy_name,vaccines,price,cost\n")
+            .getBytes(StandardCharsets.UTF_8);
+
+    @Override
+    public void write(TransportationProblem problem, int[] vaccinesSold, OutputBuffer output) throws IOException {
+        byte[][] producersNames = encodeNames(problem.getProducersNames());
+        byte[][] pharmaciesNames = encodeNames(problem.getPharmaciesNames());
+        int[] producersIds = problem.getProducersIds();
+        int[] pharmaciesIds = problem.getPharmaciesIds();
+        int[] connectionsProducers = problem.getConnectionsProducers();
+        int[] pharmaciesOffsets = problem.getPharmaciesOffsets();
+        int[] pharmaciesConnections = problem.getPharmaciesConnections();
+        double[] prices = problem.getPrices();
+        long[] pricesCents = problem.getPricesCents();
+
+        output.write(HEADER);
+        for (int pharmacy = 0; pharmacy < problem.getPharmaciesCount(); pharmacy++) {
+            for (int i = pharmaciesOffsets[pharmacy]; i < pharmaciesOffsets[pharmacy + 1]; i++) {
+                int connection = pharmaciesConnections[i];
+                if (vaccinesSold[connection] == 0)
+                    continue;
+
+                int producer = connectionsProducers[connection];
+                output.writeLong(producersIds[producer]).writeByte(',').write(producersNames[producer])
+                        .writeByte(',').writeLong(pharmaciesIds[pharmacy]).writeByte(',')
+                        .write(pharmaciesNames[pharmacy]).writeByte(',').writeLong(vaccinesSold[connection])
+                        .writeByte(',');
+                if (pricesCents != null) {
+                    output.writeCents(pricesCents[connection], true).writeByte(',')
+                            .writeCents(Math.multiplyExact(vaccinesSold[connection], pricesCents[connection]), false);
+                } else {
+                    NumberFormatter.writePrice(output, prices[connection]);
+                    output.writeByte(',');
+                    NumberFormatter.writeAmount(output, vaccinesSold[connection] * prices[connection]);
+                }
+                output.writeByte('\n');
+            }
+        }
+    }
+
+    private byte[][] encodeNames(String[] names) {
+        byte[][] encodedNames = new byte[names.length][];
+        for (int i = 0; i < names.length; i++) {
+            String name = names[i];
+            if (name.indexOf(',') != -1 || name.indexOf('"') != -1 || name.indexOf('\n') != -1)
+                name = '"' + name.replace("\"", "\"\"") + '"';
+            encodedNames[i] = name.getBytes(StandardCharsets.UTF_8);
+        }
+        return encodedNames;
+    }
+}
@@ -1,310 +1,556 @@
 package io;
 
 import app.DataControl;
+import app.IntIntHashMap;
+import app.PairSet;
+import app.SolverMetrics;
+import exception.DataFileException;
 import exception.IdAlreadyExistsException;
 import exception.InputDataException;
-import exception.InvalidConnectionsException;
 import exception.ParticipantNotInFileException;
-import model.*;
-
-import java.io.*;
+import model.OffHeapMatrix;
+import model.OffHeapProblem;
+import model.TransportationProblem;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.NoSuchFileException;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
 import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.List;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.Future;
 
 public class FileManager {
     private static final int PRODUCER = 0;
     private static final int PHARMACY = 1;
+    private static final int INITIAL_CAPACITY = 16;
+    private static final int MAX_INITIAL_CAPACITY = 1 << 24;
+    private static final long MIN_CHUNK_SIZE = 4 << 20;
+    private static final int CHUNKS_PER_THREAD = 4;
+    private static final int ESTIMATED_CONNECTION_LENGTH = 24;
+
+    private int[] participantsIds;
+    private List<String> participantsNames;
+    private int[] participantsValues;
+    private int participantsCount;
+    private IntIntHashMap participantsOrdinals;
 
-    private int line;
     private int[] producersIds;
+    private IntIntHashMap producersOrdinals;
+    private String[] producersNames;
+    private int[] production;
     private int[] pharmaciesIds;
+    private IntIntHashMap pharmaciesOrdinals;
+    private int[] pharmaciesFileOrder;
+    private String[] pharmaciesNames;
+    private int[] demand;
+
+    private int[] connectionsProducers;
+    private int[] connectionsPharmacies;
+    private int[] maxVaccines;
+    private double[] prices;
+    private long[] pricesCents;
+    private int connectionsCount;
+    private PairSet connectionsGrid;
+    private ConnectionsBuffer connections;
 
     private DataControl dataControl;
+    private BinaryFileManager binaryFileManager;
+    private boolean sparseConnections;
+    private boolean exactPrices;
+    private SolverMetrics metrics;
+    private ForkJoinPool parallelPool;
+    private long validationTime;
 
     public DataControl getDataControl() {
         return dataControl;
     }
 
     public FileManager() {
+        this(false);
+    }
+
+    public FileManager(boolean sparseConnections) {
+        this(sparseConnections, false);
+    }
+
+    public FileManager(boolean sparseConnections, boolean exactPrices) {
         dataControl = new DataControl();
-        line = 0;
+        binaryFileManager = new BinaryFileManager();
+        this.sparseConnections = sparseConnections;
+        this.exactPrices = exactPrices;
     }
 
-    private String readLine(BufferedReader bufferedReader) throws IOException {
-        line++;
-        return bufferedReader.readLine();
+    public void setMetrics(SolverMetrics metrics) {
+        this.metrics = metrics;
     }
 
-    public Participants readData(String fileName) throws NumberFormatException {
-        List<Producer> producers = null;
-        List<Pharmacy> pharmacies = null;
-        List<Connection> connections = null;
-        try (
-                var fileReader = new FileReader(fileName);
-                var reader = new BufferedReader(fileReader);
-        ) {
-            if (new File(fileName).length() == 0)
+    public void setParallelPool(ForkJoinPool parallelPool) {
+        this.parallelPool = parallelPool;
+    }
+
+    public TransportationProblem readProblem(String fileName) throws NumberFormatException {
+        validationTime = 0;
+        long start = System.nanoTime();
+        TransportationProblem problem = readProblemFile(fileName);
+        addReadTime(start);
+        return problem;
+    }
+
+    public TransportationProblem readProblem(ByteBuffer buffer, String name) {
+        validationTime = 0;
+        long start = System.nanoTime();
+        try {
+            if (buffer.limit() == 0)
                 throw new IllegalArgumentException("Podany plik nie może być pusty!");
+            TransportationProblem problem = binaryFileManager.isBinaryData(buffer) ?
+                    readBinaryProblem(binaryFileManager.readProblem(buffer, name)) :
+                    readProblem(new InputScanner(buffer));
+            addReadTime(start);
+            return problem;
+        } catch (IOException e) {
+            throw new DataFileException("Błąd odczytu danych " + name, e);
+        }
+    }
 
-            int maxLines = 10000;
-            if (new File(fileName).length() > maxLines)
-                throw new IllegalArgumentException("Podany plik nie może zawierać więcej niż " + maxLines + " " +
-                                                   "linijek! Aktualna liczba linijek w pliku: " +
-                                                    new File(fileName).length());
-
-            producers = readProducers(reader);
-            pharmacies = readPharmacies(reader);
-            connections = readConnections(reader, producers, pharmacies);
-        } catch (FileNotFoundException e) {
-            System.err.println("Nie znaleziono pliku o nazwie " + fileName);
-            System.exit(1);
+    public OffHeapProblem readOffHeapProblem(String fileName) {
+        validationTime = 0;
+        long start = System.nanoTime();
+        try (FileChannel channel = FileChannel.open(Path.of(fileName), StandardOpenOption.READ)) {
+            if (channel.size() == 0)
+                throw new IllegalArgumentException("Podany plik nie może być pusty!");
+            if (binaryFileManager.isBinaryFile(channel))
+                throw new IllegalArgumentException("Tryb poza stertą obsługuje tylko pliki tekstowe!");
+
+            InputScanner scanner = new InputScanner(channel);
+            readProducers(scanner);
+            readPharmacies(scanner);
+            OffHeapMatrix matrix = new OffHeapMatrix(producersIds.length, pharmaciesIds.length);
+            try {
+                readOffHeapConnections(scanner, matrix);
+            } catch (IOException | RuntimeException e) {
+                matrix.close();
+                throw e;
+            }
+            addReadTime(start);
+            return new OffHeapProblem(producersIds, producersNames, production, pharmaciesIds, pharmaciesNames,
+                    demand, matrix, exactPrices);
+        } catch (NoSuchFileException e) {
+            throw new DataFileException("Nie znaleziono pliku o nazwie " + fileName, e);
         } catch (IOException e) {
-            System.err.println("Błąd odczytu z pliku " + fileName);
-            e.printStackTrace();
-            System.exit(1);
+            throw new DataFileException("Błąd odczytu z pliku " + fileName, e);
         }
+    }
 
-        if (!supplyGreaterOrEqualToDemand(producers, pharmacies))
-            throw new IllegalArgumentException("Liczba szczepionek produkowanych przez producentów nie może być " +
-                    "mniejsza od zapotrzebowania aptek!");
+    private void readOffHeapConnections(InputScanner scanner, OffHeapMatrix matrix) throws IOException {
+        dataControl.startConnectionsValidation(pharmaciesIds.length);
+        long count = 0;
+        while (scanner.nextLine()) {
+            readOffHeapConnection(scanner, matrix);
+            count++;
+        }
 
-        int insufficientDemandPharmacyid = maxVaccinesLessThanPharmacyDemand(pharmacies, connections);
-        if (insufficientDemandPharmacyid != -1)
-            throw new IllegalArgumentException("Maksymalna ilość szczepionek, która może zostać dostarczona " +
-                    "do apteki o numerze id " + insufficientDemandPharmacyid + " jest " +
-                    "mniejsza od jej zapotrzebowania!");
+        long connectionsNumber = (long) producersIds.length * pharmaciesIds.length;
+        if (!sparseConnections && count != connectionsNumber)
+            throw new IllegalArgumentException("Nieprawidłowa liczba połączeń! Połączeń w pliku powinno " +
+                    "być " + connectionsNumber);
 
-        saveConnections(connections, producers, pharmacies);
-        Participants data = new Participants(producers, pharmacies);
-        return data;
+        long validationStart = System.nanoTime();
+        List<String> violations = dataControl.findViolations(production, demand, pharmaciesIds, pharmaciesFileOrder);
+        if (!violations.isEmpty())
+            throw new IllegalArgumentException(String.join(System.lineSeparator(), violations));
+        validationTime = System.nanoTime() - validationStart;
     }
 
-    private void saveConnections(List<Connection> connections, List<Producer> producers, List<Pharmacy> pharmacies) {
-        saveConnectionsInProducers(connections, producers);
-        saveConnectionsInPharmacies(connections, pharmacies);
-    }
+    private void readOffHeapConnection(InputScanner scanner, OffHeapMatrix matrix) {
+        readAttributes(scanner, 4);
+        int producerId;
+        int pharmacyId;
+        int maxVaccinesNumber;
+        double price;
 
-    private void saveConnectionsInPharmacies(List<Connection> connections, List<Pharmacy> pharmacies) {
-        for (Pharmacy pharmacy: pharmacies) {
-            List<Connection> pharmacyConnections = getConnectionsOfGivenPharmacyId(connections, pharmacy.getId());
-            pharmacy.setConnections(pharmacyConnections);
+        try {
+            producerId = scanner.getIntField(0);
+            pharmacyId = scanner.getIntField(1);
+            maxVaccinesNumber = scanner.getIntField(2);
+            price = exactPrices ? scanner.getCentsField(3) / 100.0 : scanner.getDoubleField(3);
+        } catch (NumberFormatException e) {
+            throw new NumberFormatException("Błąd w danie liczbowej w linijce " + scanner.getLine());
         }
-    }
 
-    private List<Connection> getConnectionsOfGivenPharmacyId(List<Connection> connections, int id) {
-        return dataControl.getConnectionsOfGivenPharmacyId(connections, id);
+        if (producerId < 0 || pharmacyId < 0 || maxVaccinesNumber < 0 || price < 0)
+            throw new IllegalArgumentException("Wartości liczbowe nie mogą być ujemne! Błąd w linijce " +
+                    scanner.getLine());
+
+        int producer = dataControl.getProducerOrdinal(producersOrdinals, producerId, scanner.getLine());
+        int pharmacy = dataControl.getPharmacyOrdinal(pharmaciesOrdinals, pharmacyId, scanner.getLine());
+        long cell = matrix.getCell(producer, pharmacy);
+        if (matrix.getSold(cell) != 0)
+            throw new IdAlreadyExistsException("Zduplikowane połączenia! Zduplikowane identyfikatory " +
+                    "producenta i apteki w linii " + scanner.getLine());
+        matrix.set(cell, maxVaccinesNumber, price);
+        matrix.setSold(cell, OffHeapMatrix.LOADED);
+        dataControl.addConnectionCapacity(pharmacy, maxVaccinesNumber);
     }
 
-    private void saveConnectionsInProducers(List<Connection> connections, List<Producer> producers) {
-        for (Producer producer: producers) {
-            List<Connection> producerConnections = getConnectionsOfGivenProducerId(connections, producer.getId());
-            producer.setConnections(producerConnections);
+    private void addReadTime(long start) {
+        if (metrics != null) {
+            metrics.addPhaseTime(SolverMetrics.Phase.PARSE, System.nanoTime() - start - validationTime);
+            metrics.addPhaseTime(SolverMetrics.Phase.VALIDATION, validationTime);
         }
     }
 
-    private List<Connection> getConnectionsOfGivenProducerId(List<Connection> connections, int id) {
-        return dataControl.getConnectionsOfGivenProducerId(connections, id);
-    }
+    private TransportationProblem readProblemFile(String fileName) {
+        try (FileChannel channel = FileChannel.open(Path.of(fileName), StandardOpenOption.READ)) {
+            if (channel.size() == 0)
+                throw new IllegalArgumentException("Podany plik nie może być pusty!");
+            if (binaryFileManager.isBinaryFile(channel))
+                return readBinaryProblem(binaryFileManager.readProblem(channel, fileName));
 
-    private int maxVaccinesLessThanPharmacyDemand(List<Pharmacy> pharmacies, List<Connection> connections) {
-        return dataControl.maxVaccinesLessThanPharmacyDemand(pharmacies, connections);
+            return readProblem(new InputScanner(channel));
+        } catch (NoSuchFileException e) {
+            throw new DataFileException("Nie znaleziono pliku o nazwie " + fileName, e);
+        } catch (IOException e) {
+            throw new DataFileException("Błąd odczytu z pliku " + fileName, e);
+        }
     }
 
-    private boolean supplyGreaterOrEqualToDemand(List<Producer> producers, List<Pharmacy> pharmacies) {
-        return dataControl.supplyGreaterOrEqualToDemand(producers, pharmacies);
+    public TransportationProblem readProblem(InputScanner scanner) throws IOException {
+        readProducers(scanner);
+        readPharmacies(scanner);
+        readConnections(scanner);
+
+        long validationStart = System.nanoTime();
+        List<String> violations = dataControl.findViolations(production, demand, pharmaciesIds, pharmaciesFileOrder);
+        if (!violations.isEmpty())
+            throw new IllegalArgumentException(String.join(System.lineSeparator(), violations));
+        validationTime = System.nanoTime() - validationStart;
+
+        return new TransportationProblem(producersIds, producersNames, production,
+                pharmaciesIds, pharmaciesNames, demand,
+                connectionsProducers, connectionsPharmacies, maxVaccines, prices,
+                exactPrices ? pricesCents : null);
     }
 
-    private List<Producer> readProducers(BufferedReader reader) throws IOException, IllegalArgumentException {
-        readBlankLines(reader);
-        List<Producer> producers = (List<Producer>) readTransactionParticipants(reader, PRODUCER);
-        saveProducerIds(producers);
-        return producers;
-    }
+    private TransportationProblem readBinaryProblem(TransportationProblem problem) {
+        if (!exactPrices)
+            return problem;
 
-    private void readBlankLines(BufferedReader reader) throws IOException {
-        while (readLine(reader).isBlank());
+        double[] prices = problem.getPrices();
+        long[] pricesCents = new long[prices.length];
+        for (int i = 0; i < prices.length; i++)
+            pricesCents[i] = TransportationProblem.toCents(prices[i]);
+        return new TransportationProblem(problem, problem.getProduction(), problem.getDemand(),
+                problem.getMaxVaccines(), prices, pricesCents);
     }
 
-    private List<Pharmacy> readPharmacies(BufferedReader reader) throws IOException, IllegalArgumentException {
-        List<Pharmacy> pharmacies = (List<Pharmacy>) readTransactionParticipants(reader, PHARMACY);
-        savePharmaciesIds(pharmacies);
-        return pharmacies;
+    private void readProducers(InputScanner scanner) throws IOException {
+        readBlankLines(scanner);
+        readTransactionParticipants(scanner, PRODUCER);
+        int[] order = sortParticipantsById();
+        producersIds = getSortedIds(order);
+        producersNames = getSortedNames(order);
+        production = getSortedValues(order);
+        producersOrdinals = participantsOrdinals;
     }
 
-    private void saveProducerIds(List<Producer> producers) {
-        producersIds = new int[producers.size()];
-        for (int i = 0; i < producersIds.length; i++)
-            producersIds[i] = producers.get(i).getId();
+    private void readBlankLines(InputScanner scanner) throws IOException {
+        while (scanner.nextLine()) {
+            if (!scanner.isBlankLine())
+                return;
+        }
     }
 
-    private void savePharmaciesIds(List<Pharmacy> pharmacies) {
-        pharmaciesIds = new int[pharmacies.size()];
-        for (int i = 0; i < pharmaciesIds.length; i++)
-            pharmaciesIds[i] = pharmacies.get(i).getId();
+    private void readPharmacies(InputScanner scanner) throws IOException {
+        readTransactionParticipants(scanner, PHARMACY);
+        int[] order = sortParticipantsById();
+        pharmaciesIds = getSortedIds(order);
+        pharmaciesNames = getSortedNames(order);
+        demand = getSortedValues(order);
+        pharmaciesOrdinals = participantsOrdinals;
+        pharmaciesFileOrder = new int[participantsCount];
+        for (int i = 0; i < participantsCount; i++)
+            pharmaciesFileOrder[order[i]] = i;
     }
 
-    private List<? extends TransactionParticipant> readTransactionParticipants(BufferedReader reader, int type) throws IOException {
-        List<TransactionParticipant> transactionParticipants = new ArrayList<>();
-        TransactionParticipant transactionParticipant = null;
+    private void readTransactionParticipants(InputScanner scanner, int type) throws IOException {
+        participantsIds = new int[INITIAL_CAPACITY];
+        participantsNames = new ArrayList<>();
+        participantsValues = new int[INITIAL_CAPACITY];
+        participantsCount = 0;
+        participantsOrdinals = new IntIntHashMap(INITIAL_CAPACITY);
 
-        while (true) {
-            String nextLine = readLine(reader);
-            if (nextLine == null || nextLine.stripLeading().startsWith("#"))
-                break;
+        while (scanner.nextLine() && !scanner.lineStartsWith('#'))
+            readTransactionParticipant(scanner);
 
-            transactionParticipant = readTransactionParticipant(nextLine, type);
-
-            if (transactionParticipants.contains(transactionParticipant))
-                throw new IdAlreadyExistsException("Identyfikatory muszą być unikalne! Duplikacja id w linii " + line);
-
-            transactionParticipants.add(transactionParticipant);
-        }
         String message;
-        if (transactionParticipants.size() == 0) {
+        if (participantsCount == 0) {
             message = type == PRODUCER ? "W pliku nie znaleziono żadnych producentów." :
                                          "W pliku nie znaleziono żadnych aptek.";
 
             throw new ParticipantNotInFileException(message);
         }
-        return transactionParticipants;
     }
 
-    private TransactionParticipant readTransactionParticipant(String currentLine, int type) {
+    private void readTransactionParticipant(InputScanner scanner) {
         int attributesNumber = 3;
-        String[] attributes = getAttributes(currentLine, attributesNumber);
+        readAttributes(scanner, attributesNumber);
         int id;
         String name;
         int productionOrDemand;
 
         try {
-            id = Integer.parseInt(attributes[0].strip());
-            productionOrDemand = Integer.parseInt(attributes[2].strip());
+            id = scanner.getIntField(0);
+            productionOrDemand = scanner.getIntField(2);
         } catch (NumberFormatException e) {
-            throw new NumberFormatException("Błąd w danie liczbowej w linijce " + line);
+            throw new NumberFormatException("Błąd w danie liczbowej w linijce " + scanner.getLine());
         }
 
-        name = attributes[1].strip();
+        name = scanner.getField(1);
         if (name.contains("|"))
             throw new IllegalArgumentException("Nazwa producenta ani nazwa apteki nie może zawierać znaku \"|\". " +
-                    "Błąd w linijce " + line);
+                    "Błąd w linijce " + scanner.getLine());
 
 
         if (id < 0 || productionOrDemand < 0)
-            throw new IllegalArgumentException("Wartości liczbowe nie mogą być ujemne! Błąd w linijce " + line);
+            throw new IllegalArgumentException("Wartości liczbowe nie mogą być ujemne! Błąd w linijce " +
+                    scanner.getLine());
 
-        if (type == PRODUCER)
-            return new Producer(id, name, productionOrDemand);
-        else if (type == PHARMACY)
-            return new Pharmacy(id, name, productionOrDemand);
-        return null;
+        if (participantsOrdinals.putIfAbsent(id, participantsCount) != -1)
+            throw new IdAlreadyExistsException("Identyfikatory muszą być unikalne! Duplikacja id w linii " +
+                    scanner.getLine());
+
+        if (participantsCount == participantsIds.length) {
+            participantsIds = Arrays.copyOf(participantsIds, participantsCount * 2);
+            participantsValues = Arrays.copyOf(participantsValues, participantsCount * 2);
+        }
+        participantsIds[participantsCount] = id;
+        participantsNames.add(name);
+        participantsValues[participantsCount] = productionOrDemand;
+        participantsCount++;
     }
 
-    private List<Connection> readConnections(BufferedReader reader, List<Producer> producers,
-                                             List<Pharmacy> pharmacies) throws IOException {
+    private int[] sortParticipantsById() {
+        long[] keys = new long[participantsCount];
+        for (int i = 0; i < participantsCount; i++)
+            keys[i] = ((long) participantsIds[i] << 32) | i;
+        Arrays.sort(keys);
 
-        List<Connection> connections = new ArrayList<>();
-        Connection connection = null;
+        int[] order = new int[participantsCount];
+        for (int i = 0; i < participantsCount; i++) {
+            order[i] = (int) keys[i];
+            participantsOrdinals.put(participantsIds[order[i]], i);
+        }
+        return order;
+    }
 
-        while (true) {
-            String nextLine = readLine(reader);
-            if (nextLine == null)
-                break;
+    private int[] getSortedIds(int[] order) {
+        int[] ids = new int[order.length];
+        for (int i = 0; i < order.length; i++)
+            ids[i] = participantsIds[order[i]];
+        return ids;
+    }
 
-            connection = readConnection(nextLine, producers, pharmacies);
+    private String[] getSortedNames(int[] order) {
+        String[] names = new String[order.length];
+        for (int i = 0; i < order.length; i++)
+            names[i] = participantsNames.get(order[i]);
+        return names;
+    }
+
+    private int[] getSortedValues(int[] order) {
+        int[] values = new int[order.length];
+        for (int i = 0; i < order.length; i++)
+            values[i] = participantsValues[order[i]];
+        return values;
+    }
+
+    private void readConnections(InputScanner scanner) throws IOException {
+        if (parallelPool == null || !readConnectionsInParallel(scanner))
+            readConnectionsSequentially(scanner);
+
+        connectionsProducers = connections.getProducers();
+        connectionsPharmacies = connections.getPharmacies();
+        maxVaccines = connections.getMaxVaccines();
+        prices = connections.getPrices();
+        pricesCents = connections.getPricesCents();
+        connectionsCount = connections.getCount();
+        connections = null;
+        connectionsGrid = null;
+
+        reorderConnections(sortConnectionsByPharmacy());
+        if (sparseConnections)
+            return;
 
-            if (connections.contains(connection))
-                throw new IdAlreadyExistsException("Zduplikowane połączenia! Zduplikowane identyfikatory " +
-                        "producenta i apteki w linii " + line);
-            connections.add(connection);
-        }
         int connectionsNumber = producersIds.length * pharmaciesIds.length;
-        if (connections.size() != connectionsNumber)
+        if (connectionsCount != connectionsNumber)
             throw new IllegalArgumentException("Nieprawidłowa liczba połączeń! Połączeń w pliku powinno " +
                     "być " + connectionsNumber);
-        if (!allCombinationsOfConnectionsExistInFile(connections, connectionsNumber))
-            throw new InvalidConnectionsException("Błąd w połączeniach - w pliku powinny znaleźć się wszystkie " +
-                    "możliwe kombinacje połączeń producentów i aptek");
-
-        return connections;
-    }
-
-    private boolean allCombinationsOfConnectionsExistInFile(List<Connection> connections, int connectionsNumber) {
-        int producerIdToCheck;
-        int pharmacyIdToCheck;
-        boolean combinationFound = false;
-
-        for (int i = 0; i < connectionsNumber; i++) {
-            combinationFound = false;
-            producerIdToCheck = connections.get(i).getProducer().getId();
-            pharmacyIdToCheck = connections.get(i).getPharmacy().getId();
-            for (int j = 0; j < producersIds.length; j++) {
-                if (combinationFound)
-                    break;
-                for (int k = 0; k < pharmaciesIds.length; k++) {
-                    if (producersIds[j] == producerIdToCheck && pharmaciesIds[k] == pharmacyIdToCheck) {
-                        combinationFound = true;
-                        break;
-                    }
-                }
-            }
-            if (!combinationFound)
-                return false;
+    }
+
+    private void startConnections(int capacity) {
+        long gridSize = (long) producersIds.length * pharmaciesIds.length;
+        connections = new ConnectionsBuffer(capacity, exactPrices);
+        dataControl.startConnectionsValidation(pharmaciesIds.length);
+        connectionsGrid = new PairSet(producersIds.length, pharmaciesIds.length,
+                !sparseConnections && gridSize <= Integer.MAX_VALUE);
+    }
+
+    private void readConnectionsSequentially(InputScanner scanner) throws IOException {
+        long gridSize = (long) producersIds.length * pharmaciesIds.length;
+        startConnections(sparseConnections ? INITIAL_CAPACITY : (int) Math.min(gridSize, MAX_INITIAL_CAPACITY));
+
+        while (scanner.nextLine()) {
+            readConnection(scanner, connections);
+            if (!registerConnection(connections.getCount() - 1))
+                throw new IdAlreadyExistsException("Zduplikowane połączenia! Zduplikowane identyfikatory " +
+                        "producenta i apteki w linii " + scanner.getLine());
         }
-        return true;
     }
 
-    private Connection readConnection(String currentLine, List<Producer> producers, List<Pharmacy> pharmacies) {
-        int attributesNumber = 4;
-        String[] attributes = getAttributes(currentLine, attributesNumber);
-        int producerId;
-        int pharmacyId;
-        int maxVaccines;
-        double price;
+    private boolean readConnectionsInParallel(InputScanner scanner) throws IOException {
+        long start = scanner.getNextLineStart();
+        long length = scanner.getSize() - start;
+        if (length < 2 * MIN_CHUNK_SIZE || parallelPool.getParallelism() < 2)
+            return false;
 
+        long chunkSize = Math.min(InputScanner.WINDOW_SIZE, Math.max(MIN_CHUNK_SIZE,
+                length / ((long) parallelPool.getParallelism() * CHUNKS_PER_THREAD)));
+        List<ConnectionsBuffer> chunks = new ArrayList<>();
         try {
-            producerId = Integer.parseInt(attributes[0].strip());
-            pharmacyId = Integer.parseInt(attributes[1].strip());
-            maxVaccines = Integer.parseInt(attributes[2].strip());
-            price = Double.parseDouble(attributes[3].strip());
-        } catch (NumberFormatException e) {
-            throw new NumberFormatException("Błąd w danie liczbowej w linijce " + line);
+            List<Callable<ConnectionsBuffer>> tasks = new ArrayList<>();
+            while (start < scanner.getSize()) {
+                long end = start + chunkSize >= scanner.getSize() ? scanner.getSize() :
+                        scanner.findNextLineStart(start + chunkSize);
+                ByteBuffer chunk = scanner.map(start, end - start);
+                tasks.add(() -> readConnectionsChunk(chunk));
+                start = end;
+            }
+            for (Future<ConnectionsBuffer> future : parallelPool.invokeAll(tasks))
+                chunks.add(future.get());
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException("Przerwano wczytywanie połączeń", e);
+        } catch (ExecutionException | IOException | IllegalArgumentException e) {
+            return false;
         }
 
-        if (producerId < 0 || pharmacyId < 0 || maxVaccines < 0 || price < 0)
-            throw new IllegalArgumentException("Wartości liczbowe nie mogą być ujemne! Błąd w linijce " + line);
-
-        Producer producer = getProducerById(producers, producerId);
-        Pharmacy pharmacy = getPharmacyById(pharmacies, pharmacyId);
+        int count = 0;
+        for (ConnectionsBuffer chunk : chunks)
+            count = Math.addExact(count, chunk.getCount());
+        startConnections(count);
+        count = 0;
+        for (ConnectionsBuffer chunk : chunks) {
+            connections.append(chunk, count);
+            count += chunk.getCount();
+        }
+        for (int connection = 0; connection < count; connection++) {
+            if (!registerConnection(connection))
+                return false;
+        }
+        return true;
+    }
 
-        return new Connection(producer, pharmacy, maxVaccines, price);
+    private ConnectionsBuffer readConnectionsChunk(ByteBuffer chunk) throws IOException {
+        ConnectionsBuffer buffer = new ConnectionsBuffer(chunk.limit() / ESTIMATED_CONNECTION_LENGTH, exactPrices);
+        InputScanner scanner = new InputScanner(chunk);
+        while (scanner.nextLine())
+            readConnection(scanner, buffer);
+        return buffer;
     }
 
-    private String[] getAttributes(String currentLine, int attributesNumber) {
-        String[] attributes;
+    private boolean registerConnection(int connection) {
+        int pharmacy = connections.getPharmacies()[connection];
+        if (!connectionsGrid.add(connections.getProducers()[connection], pharmacy))
+            return false;
+        dataControl.addConnectionCapacity(pharmacy, connections.getMaxVaccines()[connection]);
+        return true;
+    }
 
-        attributes = currentLine.split(" \\| ");
-        if (invalidLength(attributes, attributesNumber) || invalidParams(attributes, attributesNumber))
-            throw new InputDataException("W podanej linii: " + currentLine + " pewne dane są puste lub nie istnieją. " +
-                    "Błąd w linijce " + line);
+    private int[] sortConnectionsByPharmacy() {
+        int[] offsets = new int[pharmaciesIds.length + 1];
+        for (int i = 0; i < connectionsCount; i++)
+            offsets[connectionsPharmacies[i] + 1]++;
+        for (int i = 0; i < pharmaciesIds.length; i++)
+            offsets[i + 1] += offsets[i];
 
-        return attributes;
+        int[] order = new int[connectionsCount];
+        int[] next = Arrays.copyOf(offsets, pharmaciesIds.length);
+        for (int i = 0; i < connectionsCount; i++)
+            order[next[connectionsPharmacies[i]]++] = i;
+        return order;
     }
 
-    private Producer getProducerById(List<Producer> producers, int id) {
-        return dataControl.getProducerById(producers, id, line);
+    private void reorderConnections(int[] order) {
+        int[] sortedProducers = new int[connectionsCount];
+        int[] sortedPharmacies = new int[connectionsCount];
+        int[] sortedMaxVaccines = new int[connectionsCount];
+        double[] sortedPrices = new double[connectionsCount];
+        for (int i = 0; i < connectionsCount; i++) {
+            sortedProducers[i] = connectionsProducers[order[i]];
+            sortedPharmacies[i] = connectionsPharmacies[order[i]];
+            sortedMaxVaccines[i] = maxVaccines[order[i]];
+            sortedPrices[i] = prices[order[i]];
+        }
+        if (exactPrices) {
+            long[] sortedPricesCents = new long[connectionsCount];
+            for (int i = 0; i < connectionsCount; i++)
+                sortedPricesCents[i] = pricesCents[order[i]];
+            pricesCents = sortedPricesCents;
+        }
+        connectionsProducers = sortedProducers;
+        connectionsPharmacies = sortedPharmacies;
+        maxVaccines = sortedMaxVaccines;
+        prices = sortedPrices;
     }
 
-    private Pharmacy getPharmacyById(List<Pharmacy> pharmacies, int id) {
-        return dataControl.getPharmacyById(pharmacies, id, line);
+    private void readConnection(InputScanner scanner, ConnectionsBuffer buffer) {
+        int attributesNumber = 4;
+        readAttributes(scanner, attributesNumber);
+        int producerId;
+        int pharmacyId;
+        int maxVaccinesNumber;
+        double price;
+        long priceCents = 0;
+
+        try {
+            producerId = scanner.getIntField(0);
+            pharmacyId = scanner.getIntField(1);
+            maxVaccinesNumber = scanner.getIntField(2);
+            if (exactPrices) {
+                priceCents = scanner.getCentsField(3);
+                price = priceCents / 100.0;
+            } else {
+                price = scanner.getDoubleField(3);
+            }
+        } catch (NumberFormatException e) {
+            throw new NumberFormatException("Błąd w danie liczbowej w linijce " + scanner.getLine());
+        }
+
+        if (producerId < 0 || pharmacyId < 0 || maxVaccinesNumber < 0 || price < 0)
+            throw new IllegalArgumentException("Wartości liczbowe nie mogą być ujemne! Błąd w linijce " +
+                    scanner.getLine());
+
+        int producer = dataControl.getProducerOrdinal(producersOrdinals, producerId, scanner.getLine());
+        int pharmacy = dataControl.getPharmacyOrdinal(pharmaciesOrdinals, pharmacyId, scanner.getLine());
+        buffer.add(producer, pharmacy, maxVaccinesNumber, price, priceCents);
     }
 
-    private boolean invalidLength(String[] attributes, int attributesNumber) {
-        return attributes.length != attributesNumber;
+    private void readAttributes(InputScanner scanner, int attributesNumber) {
+        if (scanner.splitFields() != attributesNumber || invalidParams(scanner, attributesNumber))
+            throw new InputDataException("W podanej linii: " + scanner.getLineText() + " pewne dane są puste lub " +
+                    "nie istnieją. Błąd w linijce " + scanner.getLine());
     }
 
-    private boolean invalidParams(String[] attributes, int attributesNumber) {
+    private boolean invalidParams(InputScanner scanner, int attributesNumber) {
         for (int i = 0; i < attributesNumber; i++) {
-            if (attributes[i] == null || attributes[i].isBlank())
+            if (scanner.isFieldBlank(i))
                 return true;
         }
         return false;
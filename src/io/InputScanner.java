@@ -0,0 +1,306 @@
+package io;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+
+public class InputScanner {
+    static final long WINDOW_SIZE = 1L << 30;
+    private static final int MAX_FIELDS = 8;
+    private static final int MAX_CENTS_DIGITS = 16;
+    private static final int BOUNDARY_SCAN_SIZE = 1 << 16;
+    private static final double[] POWERS_OF_TEN = {
+            1e0, 1e1, 1e2, 1e3, 1e4, 1e5, 1e6, 1e7, 1e8, 1e9, 1e10, 1e11,
+            1e12, 1e13, 1e14, 1e15, 1e16, 1e17, 1e18, 1e19, 1e20, 1e21, 1e22
+    };
+
+    private FileChannel channel;
+    private long size;
+    private ByteBuffer window;
+    private long windowStart;
+
+    private long position;
+    private boolean skipLineFeed;
+    private int line;
+    private int lineStart;
+    private int lineEnd;
+
+    private int fieldsCount;
+    private int[] fieldsStarts = new int[MAX_FIELDS];
+    private int[] fieldsEnds = new int[MAX_FIELDS];
+
+    public InputScanner(FileChannel channel) throws IOException {
+        this.channel = channel;
+        this.size = channel.size();
+        mapWindow(0);
+    }
+
+    public InputScanner(ByteBuffer buffer) {
+        this.size = buffer.limit();
+        this.window = buffer;
+        this.windowStart = 0;
+    }
+
+    private void mapWindow(long start) throws IOException {
+        windowStart = start;
+        window = channel.map(FileChannel.MapMode.READ_ONLY, start, Math.min(WINDOW_SIZE, size - start));
+    }
+
+    public int getLine() {
+        return line;
+    }
+
+    public long getPosition() {
+        return position;
+    }
+
+    public long getSize() {
+        return size;
+    }
+
+    public long getNextLineStart() throws IOException {
+        if (skipLineFeed && position < size && getByte(position) == '\n')
+            return position + 1;
+        return position;
+    }
+
+    public long findNextLineStart(long from) throws IOException {
+        while (from < size) {
+            ByteBuffer bytes = map(from, Math.min(BOUNDARY_SCAN_SIZE, size - from));
+            for (int i = 0; i < bytes.limit(); i++) {
+                byte current = bytes.get(i);
+                if (current == '\n')
+                    return from + i + 1;
+                if (current == '\r') {
+                    long next = from + i + 1;
+                    return next < size && getByte(next) == '\n' ? next + 1 : next;
+                }
+            }
+            from += bytes.limit();
+        }
+        return size;
+    }
+
+    public ByteBuffer map(long start, long length) throws IOException {
+        if (channel == null)
+            return window.slice((int) start, (int) length);
+        return channel.map(FileChannel.MapMode.READ_ONLY, start, length);
+    }
+
+    private byte getByte(long position) throws IOException {
+        if (position >= windowStart && position - windowStart < window.limit())
+            return window.get((int) (position - windowStart));
+        return map(position, 1).get(0);
+    }
+
+    public boolean nextLine() throws IOException {
+        if (skipLineFeed) {
+            skipLineFeed = false;
+            if (position < size && position - windowStart == window.limit())
+                mapWindow(position);
+            if (position < size && window.get((int) (position - windowStart)) == '\n')
+                position++;
+        }
+        if (position >= size)
+            return false;
+
+        int end = findLineEnd();
+        if (end == -1) {
+            mapWindow(position);
+            end = findLineEnd();
+            if (end == -1)
+                throw new IOException("Linijka " + (line + 1) + " jest zbyt długa");
+        }
+
+        line++;
+        lineStart = (int) (position - windowStart);
+        lineEnd = end;
+        position = windowStart + end;
+        if (position < size) {
+            skipLineFeed = window.get(end) == '\r';
+            position++;
+        }
+        return true;
+    }
+
+    private int findLineEnd() {
+        int limit = window.limit();
+        for (int i = (int) (position - windowStart); i < limit; i++) {
+            byte current = window.get(i);
+            if (current == '\n' || current == '\r')
+                return i;
+        }
+        return windowStart + limit == size ? limit : -1;
+    }
+
+    public String getLineText() {
+        return getString(lineStart, lineEnd);
+    }
+
+    public boolean isBlankLine() {
+        return skipWhitespace(lineStart, lineEnd) == lineEnd;
+    }
+
+    public boolean lineStartsWith(char character) {
+        int start = skipWhitespace(lineStart, lineEnd);
+        return start < lineEnd && window.get(start) == character;
+    }
+
+    public int splitFields() {
+        fieldsCount = 0;
+        int fieldStart = lineStart;
+        int i = lineStart;
+        while (i + 2 < lineEnd) {
+            if (window.get(i) == ' ' && window.get(i + 1) == '|' && window.get(i + 2) == ' ') {
+                addField(fieldStart, i);
+                i += 3;
+                fieldStart = i;
+            } else {
+                i++;
+            }
+        }
+        addField(fieldStart, lineEnd);
+        return fieldsCount;
+    }
+
+    private void addField(int start, int end) {
+        if (fieldsCount < MAX_FIELDS) {
+            fieldsStarts[fieldsCount] = start;
+            fieldsEnds[fieldsCount] = end;
+        }
+        fieldsCount++;
+    }
+
+    public boolean isFieldBlank(int field) {
+        return skipWhitespace(fieldsStarts[field], fieldsEnds[field]) == fieldsEnds[field];
+    }
+
+    public String getField(int field) {
+        int start = skipWhitespace(fieldsStarts[field], fieldsEnds[field]);
+        int end = skipTrailingWhitespace(start, fieldsEnds[field]);
+        return getString(start, end);
+    }
+
+    public int getIntField(int field) {
+        int start = skipWhitespace(fieldsStarts[field], fieldsEnds[field]);
+        int end = skipTrailingWhitespace(start, fieldsEnds[field]);
+
+        boolean negative = false;
+        if (start < end && (window.get(start) == '-' || window.get(start) == '+'))
+            negative = window.get(start++) == '-';
+        if (start == end)
+            throw new NumberFormatException();
+
+        long value = 0;
+        for (int i = start; i < end; i++) {
+            int digit = window.get(i) - '0';
+            if (digit < 0 || digit > 9)
+                throw new NumberFormatException();
+            value = value * 10 + digit;
+            if (value > (long) Integer.MAX_VALUE + 1)
+                throw new NumberFormatException();
+        }
+        if (negative)
+            value = -value;
+        if (value > Integer.MAX_VALUE || value < Integer.MIN_VALUE)
+            throw new NumberFormatException();
+        return (int) value;
+    }
+
+    public double getDoubleField(int field) {
+        int start = skipWhitespace(fieldsStarts[field], fieldsEnds[field]);
+        int end = skipTrailingWhitespace(start, fieldsEnds[field]);
+
+        int i = start;
+        boolean negative = false;
+        if (i < end && (window.get(i) == '-' || window.get(i) == '+'))
+            negative = window.get(i++) == '-';
+
+        long mantissa = 0;
+        int digits = 0;
+        int exponent = 0;
+        boolean anyDigit = false;
+        for (; i < end && isDigit(window.get(i)); i++, anyDigit = true) {
+            if (digits < 18) {
+                mantissa = mantissa * 10 + (window.get(i) - '0');
+                if (mantissa != 0)
+                    digits++;
+            } else {
+                exponent++;
+            }
+        }
+        if (i < end && window.get(i) == '.') {
+            for (i++; i < end && isDigit(window.get(i)); i++, anyDigit = true) {
+                if (digits < 18) {
+                    mantissa = mantissa * 10 + (window.get(i) - '0');
+                    exponent--;
+                    if (mantissa != 0)
+                        digits++;
+                }
+            }
+        }
+
+        if (!anyDigit || i != end || digits > 15 || exponent < -22 || exponent > 22)
+            return Double.parseDouble(getString(start, end));
+
+        double value = exponent < 0 ? mantissa / POWERS_OF_TEN[-exponent] : mantissa * POWERS_OF_TEN[exponent];
+        return negative ? -value : value;
+    }
+
+    public long getCentsField(int field) {
+        int start = skipWhitespace(fieldsStarts[field], fieldsEnds[field]);
+        int end = skipTrailingWhitespace(start, fieldsEnds[field]);
+
+        int i = start;
+        boolean negative = false;
+        if (i < end && (window.get(i) == '-' || window.get(i) == '+'))
+            negative = window.get(i++) == '-';
+
+        long cents = 0;
+        int digits = 0;
+        for (; i < end && isDigit(window.get(i)); i++, digits++) {
+            if (digits == MAX_CENTS_DIGITS)
+                throw new NumberFormatException();
+            cents = cents * 10 + (window.get(i) - '0');
+        }
+        int fractionDigits = 0;
+        if (i < end && window.get(i) == '.') {
+            for (i++; i < end && isDigit(window.get(i)); i++, digits++) {
+                int digit = window.get(i) - '0';
+                if (fractionDigits < 2)
+                    cents = cents * 10 + digit;
+                else if (digit != 0)
+                    throw new NumberFormatException();
+                fractionDigits++;
+            }
+        }
+        if (digits == 0 || i != end)
+            throw new NumberFormatException();
+        for (; fractionDigits < 2; fractionDigits++)
+            cents *= 10;
+        return negative ? -cents : cents;
+    }
+
+    private boolean isDigit(byte character) {
+        return character >= '0' && character <= '9';
+    }
+
+    private int skipWhitespace(int start, int end) {
+        while (start < end && (window.get(start) & 0xff) <= ' ')
+            start++;
+        return start;
+    }
+
+    private int skipTrailingWhitespace(int start, int end) {
+        while (end > start && (window.get(end - 1) & 0xff) <= ' ')
+            end--;
+        return end;
+    }
+
+    private String getString(int start, int end) {
+        byte[] bytes = new byte[end - start];
+        window.get(start, bytes);
+        return new String(bytes, StandardCharsets.UTF_8);
+    }
+}
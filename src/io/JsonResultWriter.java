@@ -0,0 +1,92 @@
+package io;
+
+import model.TransportationProblem;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+
+public class JsonResultWriter implements ResultWriter {
+    private static final byte[] BEGIN = "{\"transactions\":[".getBytes(StandardCharsets.UTF_8);
+    private static final byte[] PRODUCER_ID = "{\"producerId\":".getBytes(StandardCharsets.UTF_8);
+    private static final byte[] PRODUCER = ",\"producer\":".getBytes(StandardCharsets.UTF_8);
+    private static final byte[] PHARMACY_ID = ",\"pharmacyId\":".getBytes(StandardCharsets.UTF_8);
+    private static final byte[] PHARMACY = ",\"pharmacy\":".getBytes(StandardCharsets.UTF_8);
+    private static final byte[] VACCINES = ",\"vaccines\":".getBytes(StandardCharsets.UTF_8);
+    private static final byte[] PRICE = ",\"price\":".getBytes(StandardCharsets.UTF_8);
+    private static final byte[] COST = ",\"cost\":".getBytes(StandardCharsets.UTF_8);
+    private static final byte[] TOTAL_COST = "],\"totalCost\":".getBytes(StandardCharsets.UTF_8);
+
+    @Override
+    public void write(TransportationProblem problem, int[] vaccinesSold, OutputBuffer output) throws IOException {
+        byte[][] producersNames = encodeNames(problem.getProducersNames());
+        byte[][] pharmaciesNames = encodeNames(problem.getPharmaciesNames());
+        int[] producersIds = problem.getProducersIds();
+        int[] pharmaciesIds = problem.getPharmaciesIds();
+        int[] connectionsProducers = problem.getConnectionsProducers();
+        int[] pharmaciesOffsets = problem.getPharmaciesOffsets();
+        int[] pharmaciesConnections = problem.getPharmaciesConnections();
+        double[] prices = problem.getPrices();
+        long[] pricesCents = problem.getPricesCents();
+
+        output.write(BEGIN);
+        double totalCost = 0;
+        long totalCostCents = 0;
+        boolean first = true;
+        for (int pharmacy = 0; pharmacy < problem.getPharmaciesCount(); pharmacy++) {
+            for (int i = pharmaciesOffsets[pharmacy]; i < pharmaciesOffsets[pharmacy + 1]; i++) {
+                int connection = pharmaciesConnections[i];
+                if (vaccinesSold[connection] == 0)
+                    continue;
+
+                if (!first)
+                    output.writeByte(',');
+                first = false;
+
+                int producer = connectionsProducers[connection];
+                output.write(PRODUCER_ID).writeLong(producersIds[producer]).write(PRODUCER)
+                        .write(producersNames[producer]).write(PHARMACY_ID).writeLong(pharmaciesIds[pharmacy])
+                        .write(PHARMACY).write(pharmaciesNames[pharmacy]).write(VACCINES)
+                        .writeLong(vaccinesSold[connection]).write(PRICE);
+                if (pricesCents != null) {
+                    long costCents = Math.multiplyExact(vaccinesSold[connection], pricesCents[connection]);
+                    output.writeCents(pricesCents[connection], true).write(COST).writeCents(costCents, false);
+                    totalCostCents = Math.addExact(totalCostCents, costCents);
+                } else {
+                    double cost = vaccinesSold[connection] * prices[connection];
+                    NumberFormatter.writePrice(output, prices[connection]);
+                    output.write(COST);
+                    NumberFormatter.writeAmount(output, cost);
+                    totalCost += cost;
+                }
+                output.writeByte('}');
+            }
+        }
+        output.write(TOTAL_COST);
+        if (pricesCents != null)
+            output.writeCents(totalCostCents, false);
+        else
+            NumberFormatter.writeAmount(output, totalCost);
+        output.writeByte('}').writeByte('\n');
+    }
+
+    private byte[][] encodeNames(String[] names) {
+        byte[][] encodedNames = new byte[names.length][];
+        for (int i = 0; i < names.length; i++)
+            encodedNames[i] = quote(names[i]).getBytes(StandardCharsets.UTF_8);
+        return encodedNames;
+    }
+
+    private String quote(String text) {
+        StringBuilder quoted = new StringBuilder(text.length() + 2).append('"');
+        for (int i = 0; i < text.length(); i++) {
+            char character = text.charAt(i);
+            if (character == '"' || character == '\\')
+                quoted.append('\\').append(character);
+            else if (character < ' ')
+                quoted.append(String.format("\\u%04x", (int) character));
+            else
+                quoted.append(character);
+        }
+        return quoted.append('"').toString();
+    }
+}
@@ -0,0 +1,26 @@
+package io;
+
+import java.io.IOException;
+
+class NumberFormatter {
+    private static final long MAX_EXACT_PRICE_CENTS = 1_000_000_000L;
+    private static final double MAX_EXACT_AMOUNT = 1e15;
+
+    private NumberFormatter() {
+    }
+
+    static void writePrice(OutputBuffer output, double price) throws IOException {
+        long cents = Math.round(price * 100);
+        if (cents >= 0 && cents < MAX_EXACT_PRICE_CENTS && cents / 100.0 == price)
+            output.writeCents(cents, true);
+        else
+            output.write(Double.toString(price));
+    }
+
+    static void writeAmount(OutputBuffer output, double amount) throws IOException {
+        if (Math.abs(amount) < MAX_EXACT_AMOUNT)
+            output.writeCents(Math.round(amount * 100), false);
+        else
+            output.write(Double.toString(amount));
+    }
+}
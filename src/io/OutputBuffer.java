@@ -0,0 +1,117 @@
+package io;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.Channels;
+import java.nio.channels.FileChannel;
+import java.nio.channels.WritableByteChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+
+public class OutputBuffer implements AutoCloseable {
+    private static final int DEFAULT_BUFFER_SIZE = 1 << 20;
+    private static final int MAX_DIGITS = 20;
+
+    private WritableByteChannel channel;
+    private ByteBuffer buffer;
+    private byte[] digits = new byte[MAX_DIGITS];
+    private boolean closeChannel;
+
+    public OutputBuffer(WritableByteChannel channel, boolean closeChannel) {
+        this(channel, closeChannel, DEFAULT_BUFFER_SIZE);
+    }
+
+    public OutputBuffer(WritableByteChannel channel, boolean closeChannel, int bufferSize) {
+        this.channel = channel;
+        this.closeChannel = closeChannel;
+        buffer = ByteBuffer.allocateDirect(Math.max(MAX_DIGITS + 2, bufferSize));
+    }
+
+    public static OutputBuffer toStandardOutput() {
+        return new OutputBuffer(Channels.newChannel(System.out), false);
+    }
+
+    public static OutputBuffer toFile(String fileName) throws IOException {
+        return new OutputBuffer(FileChannel.open(Path.of(fileName), StandardOpenOption.WRITE,
+                StandardOpenOption.CREATE, StandardOpenOption.TRUNCATE_EXISTING), true);
+    }
+
+    public OutputBuffer write(byte[] bytes) throws IOException {
+        int written = 0;
+        while (written < bytes.length) {
+            if (!buffer.hasRemaining())
+                flush();
+            int count = Math.min(bytes.length - written, buffer.remaining());
+            buffer.put(bytes, written, count);
+            written += count;
+        }
+        return this;
+    }
+
+    public OutputBuffer write(String text) throws IOException {
+        return write(text.getBytes(StandardCharsets.UTF_8));
+    }
+
+    public OutputBuffer writeByte(char character) throws IOException {
+        ensureRemaining(1);
+        buffer.put((byte) character);
+        return this;
+    }
+
+    public OutputBuffer writeLong(long value) throws IOException {
+        ensureRemaining(MAX_DIGITS);
+        if (value < 0) {
+            buffer.put((byte) '-');
+            if (value == Long.MIN_VALUE) {
+                buffer.put((byte) '9');
+                value = -(value + 9_000_000_000_000_000_000L);
+            } else {
+                value = -value;
+            }
+        }
+
+        int length = 0;
+        do {
+            digits[length++] = (byte) ('0' + value % 10);
+            value /= 10;
+        } while (value != 0);
+        while (length > 0)
+            buffer.put(digits[--length]);
+        return this;
+    }
+
+    public OutputBuffer writeCents(long cents, boolean trimZeros) throws IOException {
+        if (cents < 0) {
+            writeByte('-');
+            cents = -cents;
+        }
+        writeLong(cents / 100);
+        ensureRemaining(3);
+        buffer.put((byte) '.');
+        int fraction = (int) (cents % 100);
+        buffer.put((byte) ('0' + fraction / 10));
+        if (!trimZeros || fraction % 10 != 0)
+            buffer.put((byte) ('0' + fraction % 10));
+        return this;
+    }
+
+    private void ensureRemaining(int bytes) throws IOException {
+        if (buffer.remaining() < bytes)
+            flush();
+    }
+
+    public void flush() throws IOException {
+        buffer.flip();
+        while (buffer.hasRemaining())
+            channel.write(buffer);
+        buffer.clear();
+    }
+
+    @Override
+    public void close() throws IOException {
+        flush();
+        if (closeChannel)
+            channel.close();
+    }
+}
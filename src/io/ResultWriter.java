@@ -0,0 +1,22 @@
+package io;
+
+import model.TransportationProblem;
+
+import java.io.IOException;
+
+public interface ResultWriter {
+    void write(TransportationProblem problem, int[] vaccinesSold, OutputBuffer output) throws IOException;
+
+    static ResultWriter forFormat(String format) {
+        switch (format) {
+            case "text":
+                return new TextResultWriter();
+            case "csv":
+                return new CsvResultWriter();
+            case "json":
+                return new JsonResultWriter();
+            default:
+                throw new IllegalArgumentException("Nieznany format wyników: " + format);
+        }
+    }
+}
@@ -0,0 +1,75 @@
+package io;
+
+import model.TransportationProblem;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+
+public class TextResultWriter implements ResultWriter {
+    private static final int MAX_EXACT_COST_CENTS = 13_107_200;
+    private static final byte[] ARROW = " -> ".getBytes(StandardCharsets.UTF_8);
+    private static final byte[] COST = " [Koszt = ".getBytes(StandardCharsets.UTF_8);
+    private static final byte[] TIMES = " * ".getBytes(StandardCharsets.UTF_8);
+    private static final byte[] EQUALS = " = ".getBytes(StandardCharsets.UTF_8);
+    private static final byte[] CURRENCY = " zł]".getBytes(StandardCharsets.UTF_8);
+    private static final byte[] TOTAL = "Opłaty całkowite: ".getBytes(StandardCharsets.UTF_8);
+    private static final byte[] TOTAL_CURRENCY = " zł".getBytes(StandardCharsets.UTF_8);
+    private static final byte[] LINE_SEPARATOR = System.lineSeparator().getBytes(StandardCharsets.UTF_8);
+
+    @Override
+    public void write(TransportationProblem problem, int[] vaccinesSold, OutputBuffer output) throws IOException {
+        byte[][] producersNames = encodeNames(problem.getProducersNames());
+        byte[][] pharmaciesNames = encodeNames(problem.getPharmaciesNames());
+        int[] connectionsProducers = problem.getConnectionsProducers();
+        int[] pharmaciesOffsets = problem.getPharmaciesOffsets();
+        int[] pharmaciesConnections = problem.getPharmaciesConnections();
+        double[] prices = problem.getPrices();
+        long[] pricesCents = problem.getPricesCents();
+
+        double sum = 0;
+        long sumCents = 0;
+        for (int pharmacy = 0; pharmacy < problem.getPharmaciesCount(); pharmacy++) {
+            for (int i = pharmaciesOffsets[pharmacy]; i < pharmaciesOffsets[pharmacy + 1]; i++) {
+                int connection = pharmaciesConnections[i];
+                if (vaccinesSold[connection] == 0)
+                    continue;
+
+                output.write(producersNames[connectionsProducers[connection]]).write(ARROW)
+                        .write(pharmaciesNames[pharmacy]).write(COST).writeLong(vaccinesSold[connection]).write(TIMES);
+                if (pricesCents != null) {
+                    long costCents = Math.multiplyExact(vaccinesSold[connection], pricesCents[connection]);
+                    output.writeCents(pricesCents[connection], true).write(EQUALS).writeCents(costCents, true);
+                    sumCents = Math.addExact(sumCents, costCents);
+                } else {
+                    double cost = vaccinesSold[connection] * prices[connection];
+                    NumberFormatter.writePrice(output, prices[connection]);
+                    output.write(EQUALS);
+                    writeRoundedCost(output, (int) ((cost + 0.005f) * 100));
+                    sum += cost;
+                }
+                output.write(CURRENCY).write(LINE_SEPARATOR);
+            }
+        }
+
+        output.write(LINE_SEPARATOR).write(TOTAL);
+        if (pricesCents != null)
+            output.writeCents(sumCents, true);
+        else
+            writeRoundedCost(output, (int) ((sum + 0.005f) * 100));
+        output.write(TOTAL_CURRENCY).write(LINE_SEPARATOR);
+    }
+
+    private byte[][] encodeNames(String[] names) {
+        byte[][] encodedNames = new byte[names.length][];
+        for (int i = 0; i < names.length; i++)
+            encodedNames[i] = names[i].getBytes(StandardCharsets.UTF_8);
+        return encodedNames;
+    }
+
+    private void writeRoundedCost(OutputBuffer output, int cents) throws IOException {
+        if (cents >= 0 && cents < MAX_EXACT_COST_CENTS)
+            output.writeCents(cents, true);
+        else
+            output.write(Float.toString(cents / 100f));
+    }
+}
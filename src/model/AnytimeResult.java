@@ -0,0 +1,25 @@
+package model;
+
+public class AnytimeResult {
+    private int[] vaccinesSold;
+    private double totalCost;
+    private boolean optimal;
+
+    public AnytimeResult(int[] vaccinesSold, double totalCost, boolean optimal) {
+        this.vaccinesSold = vaccinesSold;
+        this.totalCost = totalCost;
+        this.optimal = optimal;
+    }
+
+    public int[] getVaccinesSold() {
+        return vaccinesSold;
+    }
+
+    public double getTotalCost() {
+        return totalCost;
+    }
+
+    public boolean isOptimal() {
+        return optimal;
+    }
+}
@@ -0,0 +1,100 @@
+package model;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+
+public class OffHeapMatrix implements AutoCloseable {
+    public static final int LOADED = -1;
+
+    private static final int CELL_BYTES = 16;
+    private static final int PRICE_OFFSET = 0;
+    private static final int MAX_VACCINES_OFFSET = 8;
+    private static final int SOLD_OFFSET = 12;
+    private static final int CHUNK_SHIFT = 26;
+    private static final long CHUNK_MASK = (1L << CHUNK_SHIFT) - 1;
+
+    private int rows;
+    private int columns;
+    private FileChannel channel;
+    private ByteBuffer[] chunks;
+
+    public OffHeapMatrix(int rows, int columns) throws IOException {
+        this(rows, columns, Path.of(System.getProperty("java.io.tmpdir")));
+    }
+
+    public OffHeapMatrix(int rows, int columns, Path directory) throws IOException {
+        this.rows = rows;
+        this.columns = columns;
+        long cells = (long) rows * columns;
+        Path file = Files.createTempFile(directory, "macierz", ".bin");
+        channel = FileChannel.open(file, StandardOpenOption.READ, StandardOpenOption.WRITE,
+                StandardOpenOption.DELETE_ON_CLOSE);
+
+        chunks = new ByteBuffer[(int) ((cells + CHUNK_MASK) >>> CHUNK_SHIFT)];
+        try {
+            for (int i = 0; i < chunks.length; i++) {
+                long firstCell = (long) i << CHUNK_SHIFT;
+                long chunkCells = Math.min(CHUNK_MASK + 1, cells - firstCell);
+                chunks[i] = channel.map(FileChannel.MapMode.READ_WRITE, firstCell * CELL_BYTES,
+                        chunkCells * CELL_BYTES).order(ByteOrder.nativeOrder());
+            }
+        } catch (IOException | RuntimeException e) {
+            channel.close();
+            throw e;
+        }
+    }
+
+    public int getRows() {
+        return rows;
+    }
+
+    public int getColumns() {
+        return columns;
+    }
+
+    public long getCell(int row, int column) {
+        return (long) row * columns + column;
+    }
+
+    public double getPrice(long cell) {
+        return getChunk(cell).getDouble(getOffset(cell) + PRICE_OFFSET);
+    }
+
+    public int getMaxVaccines(long cell) {
+        return getChunk(cell).getInt(getOffset(cell) + MAX_VACCINES_OFFSET);
+    }
+
+    public int getSold(long cell) {
+        return getChunk(cell).getInt(getOffset(cell) + SOLD_OFFSET);
+    }
+
+    public void set(long cell, int maxVaccines, double price) {
+        ByteBuffer chunk = getChunk(cell);
+        int offset = getOffset(cell);
+        chunk.putDouble(offset + PRICE_OFFSET, price);
+        chunk.putInt(offset + MAX_VACCINES_OFFSET, maxVaccines);
+    }
+
+    public void setSold(long cell, int sold) {
+        getChunk(cell).putInt(getOffset(cell) + SOLD_OFFSET, sold);
+    }
+
+    private ByteBuffer getChunk(long cell) {
+        return chunks[(int) (cell >>> CHUNK_SHIFT)];
+    }
+
+    private int getOffset(long cell) {
+        return (int) (cell & CHUNK_MASK) * CELL_BYTES;
+    }
+
+    @Override
+    public void close() throws IOException {
+        chunks = null;
+        channel.close();
+    }
+}
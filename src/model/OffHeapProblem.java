@@ -0,0 +1,110 @@
+package model;
+
+import java.io.IOException;
+import java.util.Arrays;
+
+public class OffHeapProblem implements AutoCloseable {
+    private int[] producersIds;
+    private String[] producersNames;
+    private int[] production;
+
+    private int[] pharmaciesIds;
+    private String[] pharmaciesNames;
+    private int[] demand;
+
+    private OffHeapMatrix matrix;
+    private boolean exact;
+
+    public OffHeapProblem(int[] producersIds, String[] producersNames, int[] production,
+                          int[] pharmaciesIds, String[] pharmaciesNames, int[] demand,
+                          OffHeapMatrix matrix, boolean exact) {
+        this.producersIds = producersIds;
+        this.producersNames = producersNames;
+        this.production = production;
+        this.pharmaciesIds = pharmaciesIds;
+        this.pharmaciesNames = pharmaciesNames;
+        this.demand = demand;
+        this.matrix = matrix;
+        this.exact = exact;
+    }
+
+    public int getProducersCount() {
+        return producersIds.length;
+    }
+
+    public int getPharmaciesCount() {
+        return pharmaciesIds.length;
+    }
+
+    public int[] getProduction() {
+        return production;
+    }
+
+    public int[] getDemand() {
+        return demand;
+    }
+
+    public OffHeapMatrix getMatrix() {
+        return matrix;
+    }
+
+    public ScenarioResult getAllocation(String name) {
+        int capacity = producersIds.length + pharmaciesIds.length;
+        int[] connectionsProducers = new int[capacity];
+        int[] connectionsPharmacies = new int[capacity];
+        int[] maxVaccines = new int[capacity];
+        double[] prices = new double[capacity];
+        int[] vaccinesSold = new int[capacity];
+        int count = 0;
+        for (int producer = 0; producer < producersIds.length; producer++) {
+            for (int pharmacy = 0; pharmacy < pharmaciesIds.length; pharmacy++) {
+                long cell = matrix.getCell(producer, pharmacy);
+                int sold = matrix.getSold(cell);
+                if (sold == 0)
+                    continue;
+
+                if (count == vaccinesSold.length) {
+                    capacity = count * 2;
+                    connectionsProducers = Arrays.copyOf(connectionsProducers, capacity);
+                    connectionsPharmacies = Arrays.copyOf(connectionsPharmacies, capacity);
+                    maxVaccines = Arrays.copyOf(maxVaccines, capacity);
+                    prices = Arrays.copyOf(prices, capacity);
+                    vaccinesSold = Arrays.copyOf(vaccinesSold, capacity);
+                }
+                connectionsProducers[count] = producer;
+                connectionsPharmacies[count] = pharmacy;
+                maxVaccines[count] = matrix.getMaxVaccines(cell);
+                prices[count] = matrix.getPrice(cell);
+                vaccinesSold[count] = sold;
+                count++;
+            }
+        }
+
+        prices = Arrays.copyOf(prices, count);
+        vaccinesSold = Arrays.copyOf(vaccinesSold, count);
+        long[] pricesCents = null;
+        double totalCost = 0;
+        if (exact) {
+            pricesCents = new long[count];
+            long totalCostCents = 0;
+            for (int i = 0; i < count; i++) {
+                pricesCents[i] = TransportationProblem.toCents(prices[i]);
+                totalCostCents = Math.addExact(totalCostCents, Math.multiplyExact(vaccinesSold[i], pricesCents[i]));
+            }
+            totalCost = totalCostCents / 100.0;
+        } else {
+            for (int i = 0; i < count; i++)
+                totalCost += vaccinesSold[i] * prices[i];
+        }
+
+        TransportationProblem problem = new TransportationProblem(producersIds, producersNames, production,
+                pharmaciesIds, pharmaciesNames, demand, Arrays.copyOf(connectionsProducers, count),
+                Arrays.copyOf(connectionsPharmacies, count), Arrays.copyOf(maxVaccines, count), prices, pricesCents);
+        return new ScenarioResult(name, problem, vaccinesSold, totalCost);
+    }
+
+    @Override
+    public void close() throws IOException {
+        matrix.close();
+    }
+}
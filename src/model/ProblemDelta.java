@@ -0,0 +1,94 @@
+package model;
+
+import java.util.ArrayList;
+import java.util.List;
+
+public class ProblemDelta {
+    private List<ConnectionChange> pricesChanges = new ArrayList<>();
+    private List<ConnectionChange> maxVaccinesChanges = new ArrayList<>();
+    private List<ParticipantChange> productionChanges = new ArrayList<>();
+    private List<ParticipantChange> demandChanges = new ArrayList<>();
+
+    public ProblemDelta changePrice(int producerId, int pharmacyId, double price) {
+        pricesChanges.add(new ConnectionChange(producerId, pharmacyId, price));
+        return this;
+    }
+
+    public ProblemDelta changeMaxVaccines(int producerId, int pharmacyId, int maxVaccines) {
+        maxVaccinesChanges.add(new ConnectionChange(producerId, pharmacyId, maxVaccines));
+        return this;
+    }
+
+    public ProblemDelta changeProduction(int producerId, int production) {
+        productionChanges.add(new ParticipantChange(producerId, production));
+        return this;
+    }
+
+    public ProblemDelta changeDemand(int pharmacyId, int demand) {
+        demandChanges.add(new ParticipantChange(pharmacyId, demand));
+        return this;
+    }
+
+    public List<ConnectionChange> getPricesChanges() {
+        return pricesChanges;
+    }
+
+    public List<ConnectionChange> getMaxVaccinesChanges() {
+        return maxVaccinesChanges;
+    }
+
+    public List<ParticipantChange> getProductionChanges() {
+        return productionChanges;
+    }
+
+    public List<ParticipantChange> getDemandChanges() {
+        return demandChanges;
+    }
+
+    public boolean isEmpty() {
+        return pricesChanges.isEmpty() && maxVaccinesChanges.isEmpty() && productionChanges.isEmpty() &&
+                demandChanges.isEmpty();
+    }
+
+    public static class ConnectionChange {
+        private int producerId;
+        private int pharmacyId;
+        private double value;
+
+        public ConnectionChange(int producerId, int pharmacyId, double value) {
+            this.producerId = producerId;
+            this.pharmacyId = pharmacyId;
+            this.value = value;
+        }
+
+        public int getProducerId() {
+            return producerId;
+        }
+
+        public int getPharmacyId() {
+            return pharmacyId;
+        }
+
+        public double getValue() {
+            return value;
+        }
+    }
+
+    public static class ParticipantChange {
+        private int id;
+        private int value;
+
+        public ParticipantChange(int id, int value) {
+            this.id = id;
+            this.value = value;
+        }
+
+        public int getId() {
+            return id;
+        }
+
+        public int getValue() {
+            return value;
+        }
+    }
+}
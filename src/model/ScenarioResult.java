@@ -0,0 +1,45 @@
+package model;
+
+public class ScenarioResult {
+    private String name;
+    private TransportationProblem problem;
+    private int[] vaccinesSold;
+    private double totalCost;
+    private RuntimeException error;
+
+    public ScenarioResult(String name, TransportationProblem problem, int[] vaccinesSold, double totalCost) {
+        this.name = name;
+        this.problem = problem;
+        this.vaccinesSold = vaccinesSold;
+        this.totalCost = totalCost;
+    }
+
+    public ScenarioResult(String name, RuntimeException error) {
+        this.name = name;
+        this.error = error;
+    }
+
+    public boolean isSuccessful() {
+        return error == null;
+    }
+
+    public String getName() {
+        return name;
+    }
+
+    public TransportationProblem getProblem() {
+        return problem;
+    }
+
+    public int[] getVaccinesSold() {
+        return vaccinesSold;
+    }
+
+    public double getTotalCost() {
+        return totalCost;
+    }
+
+    public RuntimeException getError() {
+        return error;
+    }
+}
@@ -0,0 +1,206 @@
+package model;
+
+public class TransportationProblem {
+    private static final long MAX_PRICE_SCALE = 1_000_000_000L;
+
+    private int[] producersIds;
+    private String[] producersNames;
+    private int[] production;
+
+    private int[] pharmaciesIds;
+    private String[] pharmaciesNames;
+    private int[] demand;
+
+    private int[] connectionsProducers;
+    private int[] connectionsPharmacies;
+    private int[] maxVaccines;
+    private double[] prices;
+    private long[] pricesCents;
+    private double[] costs;
+
+    private int[] producersOffsets;
+    private int[] producersConnections;
+    private int[] pharmaciesOffsets;
+    private int[] pharmaciesConnections;
+
+    public TransportationProblem(int[] producersIds, String[] producersNames, int[] production,
+                                 int[] pharmaciesIds, String[] pharmaciesNames, int[] demand,
+                                 int[] connectionsProducers, int[] connectionsPharmacies,
+                                 int[] maxVaccines, double[] prices) {
+        this(producersIds, producersNames, production, pharmaciesIds, pharmaciesNames, demand, connectionsProducers,
+                connectionsPharmacies, maxVaccines, prices, null);
+    }
+
+    public TransportationProblem(int[] producersIds, String[] producersNames, int[] production,
+                                 int[] pharmaciesIds, String[] pharmaciesNames, int[] demand,
+                                 int[] connectionsProducers, int[] connectionsPharmacies,
+                                 int[] maxVaccines, double[] prices, long[] pricesCents) {
+        this.producersIds = producersIds;
+        this.producersNames = producersNames;
+        this.production = production;
+        this.pharmaciesIds = pharmaciesIds;
+        this.pharmaciesNames = pharmaciesNames;
+        this.demand = demand;
+        this.connectionsProducers = connectionsProducers;
+        this.connectionsPharmacies = connectionsPharmacies;
+        this.maxVaccines = maxVaccines;
+        this.prices = prices;
+        this.pricesCents = pricesCents;
+
+        pharmaciesOffsets = new int[pharmaciesIds.length + 1];
+        pharmaciesConnections = new int[connectionsPharmacies.length];
+        groupConnections(connectionsPharmacies, pharmaciesOffsets, pharmaciesConnections);
+    }
+
+    public TransportationProblem(TransportationProblem problem, int[] production, int[] demand, int[] maxVaccines,
+                                 double[] prices) {
+        this(problem, production, demand, maxVaccines, prices, null);
+    }
+
+    public TransportationProblem(TransportationProblem problem, int[] production, int[] demand, int[] maxVaccines,
+                                 double[] prices, long[] pricesCents) {
+        producersIds = problem.producersIds;
+        producersNames = problem.producersNames;
+        pharmaciesIds = problem.pharmaciesIds;
+        pharmaciesNames = problem.pharmaciesNames;
+        connectionsProducers = problem.connectionsProducers;
+        connectionsPharmacies = problem.connectionsPharmacies;
+        synchronized (problem) {
+            producersOffsets = problem.producersOffsets;
+            producersConnections = problem.producersConnections;
+        }
+        pharmaciesOffsets = problem.pharmaciesOffsets;
+        pharmaciesConnections = problem.pharmaciesConnections;
+        this.production = production;
+        this.demand = demand;
+        this.maxVaccines = maxVaccines;
+        this.prices = prices;
+        this.pricesCents = pricesCents;
+    }
+
+    public static long toCents(double price) {
+        long cents = Math.round(price * 100);
+        if (cents / 100.0 != price)
+            throw new IllegalArgumentException("Cena " + price + " nie jest wyrażona w pełnych groszach!");
+        return cents;
+    }
+
+    public static long getPriceScale(double price, long scale) {
+        while (Math.round(price * scale) / (double) scale != price) {
+            if (scale == MAX_PRICE_SCALE)
+                throw new IllegalArgumentException("Cena " + price + " ma więcej niż 9 miejsc po przecinku!");
+            scale *= 10;
+        }
+        return scale;
+    }
+
+    private void groupConnections(int[] owners, int[] offsets, int[] grouped) {
+        for (int owner : owners)
+            offsets[owner + 1]++;
+        for (int i = 1; i < offsets.length; i++)
+            offsets[i] += offsets[i - 1];
+
+        int[] next = new int[offsets.length - 1];
+        System.arraycopy(offsets, 0, next, 0, next.length);
+        for (int connection = 0; connection < owners.length; connection++)
+            grouped[next[owners[connection]]++] = connection;
+    }
+
+    public int getProducersCount() {
+        return producersIds.length;
+    }
+
+    public int getPharmaciesCount() {
+        return pharmaciesIds.length;
+    }
+
+    public int getConnectionsCount() {
+        return connectionsProducers.length;
+    }
+
+    public int[] getProducersIds() {
+        return producersIds;
+    }
+
+    public String[] getProducersNames() {
+        return producersNames;
+    }
+
+    public int[] getProduction() {
+        return production;
+    }
+
+    public int[] getPharmaciesIds() {
+        return pharmaciesIds;
+    }
+
+    public String[] getPharmaciesNames() {
+        return pharmaciesNames;
+    }
+
+    public int[] getDemand() {
+        return demand;
+    }
+
+    public int[] getConnectionsProducers() {
+        return connectionsProducers;
+    }
+
+    public int[] getConnectionsPharmacies() {
+        return connectionsPharmacies;
+    }
+
+    public int[] getMaxVaccines() {
+        return maxVaccines;
+    }
+
+    public double[] getPrices() {
+        return prices;
+    }
+
+    public boolean isExact() {
+        return pricesCents != null;
+    }
+
+    public long[] getPricesCents() {
+        return pricesCents;
+    }
+
+    public double[] getCosts() {
+        if (pricesCents == null)
+            return prices;
+        if (costs == null) {
+            double[] centsCosts = new double[pricesCents.length];
+            for (int i = 0; i < centsCosts.length; i++)
+                centsCosts[i] = pricesCents[i];
+            costs = centsCosts;
+        }
+        return costs;
+    }
+
+    public synchronized int[] getProducersOffsets() {
+        groupProducersConnections();
+        return producersOffsets;
+    }
+
+    public synchronized int[] getProducersConnections() {
+        groupProducersConnections();
+        return producersConnections;
+    }
+
+    private void groupProducersConnections() {
+        if (producersOffsets != null)
+            return;
+        producersOffsets = new int[producersIds.length + 1];
+        producersConnections = new int[connectionsProducers.length];
+        groupConnections(connectionsProducers, producersOffsets, producersConnections);
+    }
+
+    public int[] getPharmaciesOffsets() {
+        return pharmaciesOffsets;
+    }
+
+    public int[] getPharmaciesConnections() {
+        return pharmaciesConnections;
+    }
+}
@@ -1,13 +0,0 @@
-package model;
-
-public abstract class VAMModel {
-    private double vamValue;
-
-    public double getVamValue() {
-        return vamValue;
-    }
-
-    public void setVamValue(double vamValue) {
-        this.vamValue = vamValue;
-    }
-}
@@ -1,17 +0,0 @@
-package model;
-
-public class VAMPharmacy extends VAMModel {
-    private Pharmacy pharmacy;
-
-    public VAMPharmacy(Pharmacy pharmacy) {
-        this.pharmacy = pharmacy;
-    }
-
-    public Pharmacy getPharmacy() {
-        return pharmacy;
-    }
-
-    public void setPharmacy(Pharmacy pharmacy) {
-        this.pharmacy = pharmacy;
-    }
-}
@@ -0,0 +1,80 @@
+package app;
+
+import model.AnytimeResult;
+import model.TransportationProblem;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.IOException;
+import java.nio.file.Path;
+import java.util.Random;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+public class AnytimeSolverTest {
+    private static final String PRODUCERS_HEADER = "# Producenci szczepionek (id | nazwa | dzienna produkcja)\n";
+    private static final String PHARMACIES_HEADER = "# Apteki (id | nazwa | dzienne zapotrzebowanie)\n";
+    private static final String CONNECTIONS_HEADER = "# Połączenia producentów i aptek (id producenta | " +
+            "id apteki | dzienna maksymalna liczba dostarczanych szczepionek | koszt szczepionki [zł] )\n";
+    private static final String NO_START_INSTANCE = PRODUCERS_HEADER +
+            "0 | Producent 0 | 10\n1 | Producent 1 | 10\n2 | Producent 2 | 10\n" + PHARMACIES_HEADER +
+            "0 | Apteka 0 | 10\n1 | Apteka 1 | 10\n" + CONNECTIONS_HEADER +
+            "0 | 0 | 8 | 30.00\n0 | 1 | 5 | 75.00\n1 | 0 | 10 | 94.00\n1 | 1 | 5 | 78.00\n";
+    private static final String VAM_FAILURE_INSTANCE = PRODUCERS_HEADER +
+            "0 | Producent 0 | 10\n1 | Producent 1 | 10\n" + PHARMACIES_HEADER +
+            "0 | Apteka 0 | 10\n1 | Apteka 1 | 10\n" + CONNECTIONS_HEADER +
+            "0 | 0 | 8 | 64.00\n0 | 1 | 6 | 71.00\n1 | 0 | 10 | 37.00\n1 | 1 | 9 | 53.00\n";
+
+    @TempDir
+    Path directory;
+
+    @Test
+    public void coldStartsWhenNoHeuristicFindsAllocation() throws IOException {
+        assertOptimal(RandomInstances.read(directory, NO_START_INSTANCE, false), 1_000_000_000L, 1385);
+    }
+
+    @Test
+    public void coldStartsWithoutBudget() throws IOException {
+        assertOptimal(RandomInstances.read(directory, NO_START_INSTANCE, false), 0, 1385);
+    }
+
+    @Test
+    public void recoversWhenVAMFails() throws IOException {
+        assertOptimal(RandomInstances.read(directory, VAM_FAILURE_INSTANCE, false), 1_000_000_000L, 1116);
+    }
+
+    @Test
+    public void matchesSimplexOnRandomInstances() throws IOException {
+        for (int seed = 0; seed < RandomInstances.SEEDS; seed++) {
+            Random random = new Random(seed);
+            TransportationProblem problem = RandomInstances.read(directory,
+                    RandomInstances.create(random, 2 + random.nextInt(8), 2 + random.nextInt(12), 0.4, 3), false);
+
+            assertOptimal(problem, 1_000_000_000L, RandomInstances.getOptimalCost(problem));
+        }
+    }
+
+    @Test
+    public void returnsFeasibleAllocationWithoutBudget() throws IOException {
+        for (int seed = 0; seed < RandomInstances.SEEDS; seed++) {
+            Random random = new Random(seed);
+            TransportationProblem problem = RandomInstances.read(directory,
+                    RandomInstances.create(random, 2 + random.nextInt(8), 2 + random.nextInt(12), 0.4, 3), false);
+
+            AnytimeResult result = new AnytimeSolver(null).solve(problem, 0);
+
+            RandomInstances.assertFeasible(problem, result.getVaccinesSold());
+            assertEquals(ProblemSolver.getTotalCost(problem, result.getVaccinesSold()), result.getTotalCost(), 1e-6);
+            assertTrue(result.getTotalCost() >= RandomInstances.getOptimalCost(problem) - 1e-6);
+        }
+    }
+
+    private void assertOptimal(TransportationProblem problem, long budgetNanos, double expectedCost) {
+        AnytimeResult result = new AnytimeSolver(null).solve(problem, budgetNanos);
+
+        assertTrue(result.isOptimal());
+        RandomInstances.assertFeasible(problem, result.getVaccinesSold());
+        assertEquals(expectedCost, result.getTotalCost(), 1e-6);
+    }
+}
@@ -0,0 +1,111 @@
+package app;
+
+import io.FileManager;
+import model.OffHeapProblem;
+import model.ScenarioResult;
+import model.TransportationProblem;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Random;
+import java.util.concurrent.ForkJoinPool;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+public class AuctionSolverTest {
+    private static final String TWO_PRODUCERS_INSTANCE =
+            "# Producenci szczepionek (id | nazwa | dzienna produkcja)\n" +
+            "0 | Producent 0 | 10\n1 | Producent 1 | 10\n" +
+            "# Apteki (id | nazwa | dzienne zapotrzebowanie)\n" +
+            "0 | Apteka 0 | 10\n" +
+            "# Połączenia producentów i aptek (id producenta | id apteki | " +
+            "dzienna maksymalna liczba dostarczanych szczepionek | koszt szczepionki [zł] )\n" +
+            "0 | 0 | 10 | 1.001\n1 | 0 | 10 | 1.004\n";
+
+    @TempDir
+    Path directory;
+
+    @Test
+    public void solvesPricesFinerThanGrosze() {
+        TransportationProblem problem = createTwoProducersProblem(1.001, 1.004);
+
+        int[] vaccinesSold = new AuctionSolver(null).solve(problem);
+
+        assertArrayEquals(new int[]{10, 0}, vaccinesSold);
+        assertEquals(10.01, ProblemSolver.getTotalCost(problem, vaccinesSold), 1e-9);
+    }
+
+    @Test
+    public void rejectsPricesWithTooManyDecimalPlaces() {
+        TransportationProblem problem = createTwoProducersProblem(1.001, 1.0000000001);
+
+        assertThrows(IllegalArgumentException.class, () -> new AuctionSolver(null).solve(problem));
+    }
+
+    @Test
+    public void solvesOffHeapPricesFinerThanGrosze() throws IOException {
+        Path file = directory.resolve("instance.txt");
+        Files.writeString(file, TWO_PRODUCERS_INSTANCE);
+
+        try (OffHeapProblem problem = new FileManager().readOffHeapProblem(file.toString())) {
+            new AuctionSolver(null).solve(new OffHeapAuctionNetwork(problem));
+            ScenarioResult result = problem.getAllocation(file.toString());
+
+            assertArrayEquals(new int[]{10}, result.getVaccinesSold());
+            assertArrayEquals(new int[]{0}, result.getProblem().getConnectionsProducers());
+            assertEquals(10.01, result.getTotalCost(), 1e-9);
+        }
+    }
+
+    @Test
+    public void matchesSimplexOnRandomInstances() throws IOException {
+        for (int seed = 0; seed < RandomInstances.SEEDS; seed++) {
+            Random random = new Random(seed);
+            TransportationProblem problem = RandomInstances.read(directory,
+                    RandomInstances.create(random, 2 + random.nextInt(8), 2 + random.nextInt(12), 0.4, 3), false);
+
+            RandomInstances.assertOptimal(problem, new AuctionSolver(null).solve(problem));
+        }
+    }
+
+    @Test
+    public void parallelBiddingMatchesSimplexOnRandomInstances() throws IOException {
+        ParallelCalculator parallelCalculator = new ParallelCalculator(ForkJoinPool.commonPool(), 1);
+        for (int seed = 0; seed < RandomInstances.SEEDS; seed++) {
+            Random random = new Random(seed);
+            TransportationProblem problem = RandomInstances.read(directory,
+                    RandomInstances.create(random, 2 + random.nextInt(8), 2 + random.nextInt(12), 0.4, 3), false);
+
+            RandomInstances.assertOptimal(problem, new AuctionSolver(parallelCalculator).solve(problem));
+        }
+    }
+
+    @Test
+    public void offHeapMatchesSimplexOnRandomInstances() throws IOException {
+        for (int seed = 0; seed < RandomInstances.SEEDS; seed++) {
+            Random random = new Random(seed);
+            Path file = RandomInstances.write(directory,
+                    RandomInstances.create(random, 2 + random.nextInt(8), 2 + random.nextInt(12), 1, 3));
+            TransportationProblem problem = new FileManager().readProblem(file.toString());
+
+            try (OffHeapProblem offHeapProblem = new FileManager().readOffHeapProblem(file.toString())) {
+                new AuctionSolver(null).solve(new OffHeapAuctionNetwork(offHeapProblem));
+                ScenarioResult result = offHeapProblem.getAllocation(file.toString());
+
+                RandomInstances.assertFeasible(result.getProblem(), result.getVaccinesSold());
+                assertEquals(RandomInstances.getOptimalCost(problem), result.getTotalCost(), 1e-6);
+            }
+        }
+    }
+
+    private static TransportationProblem createTwoProducersProblem(double firstPrice, double secondPrice) {
+        return new TransportationProblem(new int[]{0, 1}, new String[]{"Producent 0", "Producent 1"}, new int[]{10, 10},
+                new int[]{0}, new String[]{"Apteka 0"}, new int[]{10},
+                new int[]{0, 1}, new int[]{0, 0}, new int[]{10, 10}, new double[]{firstPrice, secondPrice});
+    }
+}
@@ -0,0 +1,50 @@
+package app;
+
+import model.TransportationProblem;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.IOException;
+import java.nio.file.Path;
+import java.util.Random;
+import java.util.concurrent.ForkJoinPool;
+
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+public class ComponentSolverTest {
+    @TempDir
+    Path directory;
+
+    @Test
+    public void solvesIndependentRegionsLikeSimplex() throws IOException {
+        SolverOptions options = new SolverOptions();
+        options.setSparse(true);
+        for (int seed = 0; seed < RandomInstances.SEEDS; seed++) {
+            Random random = new Random(seed);
+            int groups = 2 + random.nextInt(3);
+            TransportationProblem problem = RandomInstances.read(directory, RandomInstances.create(random,
+                    groups * (1 + random.nextInt(3)), 2 + random.nextInt(15), 0.5, 3, groups, true), false);
+            ComponentSolver componentSolver = new ComponentSolver(options, null, ForkJoinPool.commonPool());
+
+            int[] vaccinesSold = componentSolver.solve(problem);
+
+            assertTrue(componentSolver.getComponentsCount() >= Math.min(groups, problem.getPharmaciesCount()));
+            RandomInstances.assertOptimal(problem, vaccinesSold);
+        }
+    }
+
+    @Test
+    public void solvesIndependentRegionsWithOptimizedVAMLikeSimplex() throws IOException {
+        SolverOptions options = new SolverOptions();
+        options.setOptimize(true);
+        for (int seed = 0; seed < RandomInstances.SEEDS; seed++) {
+            Random random = new Random(seed);
+            int groups = 2 + random.nextInt(3);
+            TransportationProblem problem = RandomInstances.read(directory, RandomInstances.create(random,
+                    groups * (1 + random.nextInt(3)), 2 + random.nextInt(15), 1, 3, groups, false), false);
+
+            RandomInstances.assertOptimal(problem,
+                    new ComponentSolver(options, null, ForkJoinPool.commonPool()).solve(problem));
+        }
+    }
+}
@@ -0,0 +1,69 @@
+package app;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+public class DataControlTest {
+    @Test
+    public void reportsEveryViolationLikeSeparateChecks() {
+        for (int seed = 0; seed < RandomInstances.SEEDS * 5; seed++) {
+            Random random = new Random(seed);
+            int producersCount = 1 + random.nextInt(5);
+            int pharmaciesCount = 1 + random.nextInt(10);
+            int[] production = new int[producersCount];
+            for (int producer = 0; producer < producersCount; producer++) {
+                production[producer] = random.nextBoolean() ? random.nextInt(200) :
+                                                              Integer.MAX_VALUE - random.nextInt(10);
+            }
+            int[] demand = new int[pharmaciesCount];
+            int[] pharmaciesIds = new int[pharmaciesCount];
+            int[] pharmaciesOrder = new int[pharmaciesCount];
+            for (int pharmacy = 0; pharmacy < pharmaciesCount; pharmacy++) {
+                demand[pharmacy] = random.nextInt(100);
+                pharmaciesIds[pharmacy] = 100 + pharmacy;
+                pharmaciesOrder[pharmacy] = pharmaciesCount - 1 - pharmacy;
+            }
+            int connectionsCount = random.nextInt(3 * pharmaciesCount);
+            int[] connectionsPharmacies = new int[connectionsCount];
+            int[] maxVaccines = new int[connectionsCount];
+            for (int connection = 0; connection < connectionsCount; connection++) {
+                connectionsPharmacies[connection] = random.nextInt(pharmaciesCount);
+                maxVaccines[connection] = random.nextInt(60);
+            }
+
+            DataControl dataControl = new DataControl();
+            dataControl.startConnectionsValidation(pharmaciesCount);
+            dataControl.addConnectionsCapacities(connectionsPharmacies, maxVaccines);
+            List<String> violations = dataControl.findViolations(production, demand, pharmaciesIds, pharmaciesOrder);
+
+            List<String> expected = new ArrayList<>();
+            long supply = 0;
+            for (int producerProduction : production)
+                supply += producerProduction;
+            long totalDemand = 0;
+            for (int pharmacyDemand : demand)
+                totalDemand += pharmacyDemand;
+            if (supply < totalDemand)
+                expected.add("produkowanych");
+            for (int pharmacy : pharmaciesOrder) {
+                long capacity = 0;
+                for (int connection = 0; connection < connectionsCount; connection++) {
+                    if (connectionsPharmacies[connection] == pharmacy)
+                        capacity += maxVaccines[connection];
+                }
+                if (capacity < demand[pharmacy])
+                    expected.add("o numerze id " + pharmaciesIds[pharmacy] + " ");
+            }
+
+            assertEquals(expected.size(), violations.size());
+            for (int i = 0; i < expected.size(); i++)
+                assertTrue(violations.get(i).contains(expected.get(i)), violations.get(i));
+        }
+    }
+}
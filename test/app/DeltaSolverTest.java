@@ -0,0 +1,86 @@
+package app;
+
+import exception.UnsatisfiableDemandException;
+import model.ProblemDelta;
+import model.TransportationProblem;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.IOException;
+import java.nio.file.Path;
+import java.util.Random;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+public class DeltaSolverTest {
+    @TempDir
+    Path directory;
+
+    @Test
+    public void reoptimizedDeltasMatchSimplexFromScratch() throws IOException {
+        for (int seed = 0; seed < RandomInstances.SEEDS; seed++) {
+            Random random = new Random(seed);
+            TransportationProblem problem = RandomInstances.read(directory,
+                    RandomInstances.create(random, 2 + random.nextInt(8), 2 + random.nextInt(12), 0.4, 3), false);
+            DeltaSolver deltaSolver = new DeltaSolver(problem, new TransportationSimplex(problem).solve());
+
+            for (int step = 0; step < 10; step++) {
+                TransportationProblem current = deltaSolver.getProblem();
+                int[] production = current.getProduction().clone();
+                int[] demand = current.getDemand().clone();
+                int[] maxVaccines = current.getMaxVaccines().clone();
+                double[] prices = current.getPrices().clone();
+                ProblemDelta delta = createDelta(random, current, production, demand, maxVaccines, prices);
+                TransportationProblem changed = new TransportationProblem(current, production, demand, maxVaccines,
+                        prices);
+
+                int[] expected;
+                try {
+                    expected = new TransportationSimplex(changed).solve();
+                } catch (UnsatisfiableDemandException e) {
+                    assertThrows(UnsatisfiableDemandException.class, () -> deltaSolver.apply(delta));
+                    continue;
+                }
+                int[] vaccinesSold = deltaSolver.apply(delta);
+
+                RandomInstances.assertFeasible(changed, vaccinesSold);
+                assertEquals(ProblemSolver.getTotalCost(changed, expected),
+                        ProblemSolver.getTotalCost(changed, vaccinesSold), 1e-6);
+            }
+        }
+    }
+
+    private ProblemDelta createDelta(Random random, TransportationProblem problem, int[] production, int[] demand,
+                                     int[] maxVaccines, double[] prices) {
+        ProblemDelta delta = new ProblemDelta();
+        int[] producersIds = problem.getProducersIds();
+        int[] pharmaciesIds = problem.getPharmaciesIds();
+        int[] connectionsProducers = problem.getConnectionsProducers();
+        int[] connectionsPharmacies = problem.getConnectionsPharmacies();
+        for (int change = 1 + random.nextInt(4); change > 0; change--) {
+            int connection = random.nextInt(problem.getConnectionsCount());
+            int producerId = producersIds[connectionsProducers[connection]];
+            int pharmacyId = pharmaciesIds[connectionsPharmacies[connection]];
+            switch (random.nextInt(4)) {
+                case 0:
+                    prices[connection] = (1000 + random.nextInt(200_000)) / 1000.0;
+                    delta.changePrice(producerId, pharmacyId, prices[connection]);
+                    break;
+                case 1:
+                    maxVaccines[connection] = random.nextInt(150);
+                    delta.changeMaxVaccines(producerId, pharmacyId, maxVaccines[connection]);
+                    break;
+                case 2:
+                    production[connectionsProducers[connection]] = random.nextInt(400);
+                    delta.changeProduction(producerId, production[connectionsProducers[connection]]);
+                    break;
+                default:
+                    demand[connectionsPharmacies[connection]] = random.nextInt(100);
+                    delta.changeDemand(pharmacyId, demand[connectionsPharmacies[connection]]);
+                    break;
+            }
+        }
+        return delta;
+    }
+}
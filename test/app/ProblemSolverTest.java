@@ -0,0 +1,67 @@
+package app;
+
+import model.TransportationProblem;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.IOException;
+import java.nio.file.Path;
+import java.util.Random;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+public class ProblemSolverTest {
+    @TempDir
+    Path directory;
+
+    @Test
+    public void exactSparseSolveMatchesSimplex() throws IOException {
+        SolverOptions options = new SolverOptions();
+        options.setSparse(true);
+        options.setExact(true);
+        for (int seed = 0; seed < RandomInstances.SEEDS; seed++) {
+            Random random = new Random(seed);
+            String instance = RandomInstances.create(random, 2 + random.nextInt(8), 2 + random.nextInt(12), 0.4, 2);
+
+            assertExactMatchesSimplex(instance, options);
+        }
+    }
+
+    @Test
+    public void exactOptimizedSolveMatchesSimplex() throws IOException {
+        SolverOptions options = new SolverOptions();
+        options.setOptimize(true);
+        options.setExact(true);
+        for (int seed = 0; seed < RandomInstances.SEEDS; seed++) {
+            Random random = new Random(seed);
+            String instance = RandomInstances.create(random, 2 + random.nextInt(6), 2 + random.nextInt(10), 1, 2, 1,
+                    false);
+
+            assertExactMatchesSimplex(instance, options);
+        }
+    }
+
+    @Test
+    public void auctionSolveMatchesSimplex() throws IOException {
+        SolverOptions options = new SolverOptions();
+        options.setAuction(true);
+        for (int seed = 0; seed < RandomInstances.SEEDS; seed++) {
+            Random random = new Random(seed);
+            TransportationProblem problem = RandomInstances.read(directory,
+                    RandomInstances.create(random, 2 + random.nextInt(8), 2 + random.nextInt(12), 0.4, 3), false);
+
+            RandomInstances.assertOptimal(problem, new ProblemSolver(options, null).solve(problem));
+        }
+    }
+
+    private void assertExactMatchesSimplex(String instance, SolverOptions options) throws IOException {
+        TransportationProblem exactProblem = RandomInstances.read(directory, instance, true);
+        TransportationProblem problem = RandomInstances.read(directory, instance, false);
+
+        int[] vaccinesSold = new ProblemSolver(options, null).solve(exactProblem);
+
+        RandomInstances.assertFeasible(exactProblem, vaccinesSold);
+        assertEquals(RandomInstances.getOptimalCost(problem), ProblemSolver.getTotalCost(exactProblem, vaccinesSold),
+                1e-6);
+    }
+}
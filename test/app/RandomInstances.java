@@ -0,0 +1,107 @@
+package app;
+
+import io.FileManager;
+import model.TransportationProblem;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Random;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+final class RandomInstances {
+    static final int SEEDS = 20;
+
+    private RandomInstances() {
+    }
+
+    static String create(Random random, int producersCount, int pharmaciesCount, double density, int decimals) {
+        return create(random, producersCount, pharmaciesCount, density, decimals, 1, true);
+    }
+
+    static String create(Random random, int producersCount, int pharmaciesCount, double density, int decimals,
+                         int groups, boolean capped) {
+        int[] demand = new int[pharmaciesCount];
+        int[] production = new int[producersCount];
+        for (int pharmacy = 0; pharmacy < pharmaciesCount; pharmacy++) {
+            demand[pharmacy] = 1 + random.nextInt(100);
+            production[pharmacy % producersCount] += demand[pharmacy];
+        }
+
+        StringBuilder instance = new StringBuilder("# Producenci szczepionek (id | nazwa | dzienna produkcja)\n");
+        for (int producer = 0; producer < producersCount; producer++) {
+            production[producer] += random.nextInt(50);
+            instance.append(producer).append(" | Producent ").append(producer).append(" | ")
+                    .append(production[producer]).append('\n');
+        }
+        instance.append("# Apteki (id | nazwa | dzienne zapotrzebowanie)\n");
+        for (int pharmacy = 0; pharmacy < pharmaciesCount; pharmacy++)
+            instance.append(pharmacy).append(" | Apteka ").append(pharmacy).append(" | ")
+                    .append(demand[pharmacy]).append('\n');
+
+        instance.append("# Połączenia producentów i aptek (id producenta | id apteki | dzienna maksymalna liczba " +
+                "dostarczanych szczepionek | koszt szczepionki [zł] )\n");
+        long unit = (long) Math.pow(10, decimals);
+        for (int producer = 0; producer < producersCount; producer++) {
+            for (int pharmacy = 0; pharmacy < pharmaciesCount; pharmacy++) {
+                boolean dedicated = pharmacy % producersCount == producer;
+                if (!dedicated && (producer % groups != pharmacy % groups || random.nextDouble() >= density))
+                    continue;
+
+                int maxVaccines = demand[pharmacy];
+                if (capped)
+                    maxVaccines = dedicated ? maxVaccines + random.nextInt(20) : random.nextInt(2 * maxVaccines);
+                long price = unit + (long) (random.nextDouble() * 200 * unit);
+                instance.append(producer).append(" | ").append(pharmacy).append(" | ").append(maxVaccines)
+                        .append(" | ").append(formatPrice(price, unit, decimals)).append('\n');
+            }
+        }
+        return instance.toString();
+    }
+
+    private static String formatPrice(long price, long unit, int decimals) {
+        if (decimals == 0)
+            return Long.toString(price);
+        String fraction = Long.toString(unit + price % unit).substring(1);
+        return price / unit + "." + fraction;
+    }
+
+    static Path write(Path directory, String instance) throws IOException {
+        Path file = Files.createTempFile(directory, "instance", ".txt");
+        Files.writeString(file, instance);
+        return file;
+    }
+
+    static TransportationProblem read(Path directory, String instance, boolean exact) throws IOException {
+        return new FileManager(true, exact).readProblem(write(directory, instance).toString());
+    }
+
+    static double getOptimalCost(TransportationProblem problem) {
+        return ProblemSolver.getTotalCost(problem, new TransportationSimplex(problem).solve());
+    }
+
+    static void assertOptimal(TransportationProblem problem, int[] vaccinesSold) {
+        assertFeasible(problem, vaccinesSold);
+        assertEquals(getOptimalCost(problem), ProblemSolver.getTotalCost(problem, vaccinesSold), 1e-6);
+    }
+
+    static void assertFeasible(TransportationProblem problem, int[] vaccinesSold) {
+        int[] shipped = new int[problem.getProducersCount()];
+        int[] delivered = new int[problem.getPharmaciesCount()];
+        for (int connection = 0; connection < vaccinesSold.length; connection++) {
+            assertTrue(vaccinesSold[connection] >= 0 &&
+                    vaccinesSold[connection] <= problem.getMaxVaccines()[connection],
+                    "Połączenie " + connection + " przekracza przepustowość");
+            shipped[problem.getConnectionsProducers()[connection]] += vaccinesSold[connection];
+            delivered[problem.getConnectionsPharmacies()[connection]] += vaccinesSold[connection];
+        }
+        for (int producer = 0; producer < shipped.length; producer++)
+            assertTrue(shipped[producer] <= problem.getProduction()[producer],
+                    "Producent " + producer + " przekracza produkcję");
+        for (int pharmacy = 0; pharmacy < delivered.length; pharmacy++)
+            assertEquals(problem.getDemand()[pharmacy], delivered[pharmacy],
+                    "Apteka " + pharmacy + " nie otrzymała zapotrzebowania");
+    }
+}
@@ -0,0 +1,84 @@
+package app;
+
+import exception.UnsatisfiableDemandException;
+import model.ScenarioResult;
+import model.TransportationProblem;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.IOException;
+import java.nio.file.Path;
+import java.util.Random;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+public class RollingHorizonSolverTest {
+    @TempDir
+    Path directory;
+
+    @Test
+    public void everyPeriodMatchesSimplexWithCarriedStockAndCapacity() throws IOException {
+        for (int seed = 0; seed < RandomInstances.SEEDS; seed++) {
+            Random random = new Random(seed);
+            TransportationProblem first = RandomInstances.read(directory,
+                    RandomInstances.create(random, 2 + random.nextInt(8), 2 + random.nextInt(12), 0.4, 3), false);
+            RollingHorizonSolver rollingHorizonSolver = new RollingHorizonSolver(null);
+            int[] stock = new int[first.getProducersCount()];
+            int[] capacityUsage = new int[first.getConnectionsCount()];
+
+            for (int periodNumber = 1; periodNumber <= 6; periodNumber++) {
+                TransportationProblem period = periodNumber == 1 ? first : createPeriod(random, first, periodNumber);
+                int[] production = period.getProduction().clone();
+                for (int producer = 0; producer < production.length; producer++)
+                    production[producer] += stock[producer];
+                int[] maxVaccines = period.getMaxVaccines().clone();
+                for (int connection = 0; connection < maxVaccines.length; connection++)
+                    maxVaccines[connection] = Math.max(0, maxVaccines[connection] - capacityUsage[connection]);
+                TransportationProblem expected = new TransportationProblem(period, production, period.getDemand(),
+                        maxVaccines, period.getPrices());
+                String name = "okres " + periodNumber;
+
+                double optimalCost;
+                try {
+                    optimalCost = RandomInstances.getOptimalCost(expected);
+                } catch (UnsatisfiableDemandException e) {
+                    assertThrows(UnsatisfiableDemandException.class,
+                            () -> rollingHorizonSolver.solvePeriod(name, period));
+                    break;
+                }
+                ScenarioResult result = rollingHorizonSolver.solvePeriod(name, period);
+
+                RandomInstances.assertFeasible(expected, result.getVaccinesSold());
+                assertEquals(optimalCost, result.getTotalCost(), 1e-6);
+                int[] vaccinesSold = result.getVaccinesSold();
+                for (int connection = 0; connection < vaccinesSold.length; connection++) {
+                    production[first.getConnectionsProducers()[connection]] -= vaccinesSold[connection];
+                    capacityUsage[connection] += vaccinesSold[connection];
+                }
+                stock = production;
+                assertArrayEquals(stock, rollingHorizonSolver.getStock());
+                assertArrayEquals(capacityUsage, rollingHorizonSolver.getCapacityUsage());
+            }
+        }
+    }
+
+    private TransportationProblem createPeriod(Random random, TransportationProblem first, int periodNumber) {
+        int[] production = first.getProduction().clone();
+        for (int producer = 0; producer < production.length; producer++)
+            production[producer] = production[producer] / 2 + random.nextInt(production[producer] / 2 + 1);
+        int[] demand = first.getDemand().clone();
+        for (int pharmacy = 0; pharmacy < demand.length; pharmacy++)
+            demand[pharmacy] = random.nextInt(demand[pharmacy] + 1);
+        int[] maxVaccines = first.getMaxVaccines().clone();
+        for (int connection = 0; connection < maxVaccines.length; connection++)
+            maxVaccines[connection] = maxVaccines[connection] * periodNumber + random.nextInt(10);
+        double[] prices = first.getPrices().clone();
+        for (int connection = 0; connection < prices.length; connection++) {
+            if (random.nextInt(3) == 0)
+                prices[connection] = (1000 + random.nextInt(200_000)) / 1000.0;
+        }
+        return new TransportationProblem(first, production, demand, maxVaccines, prices);
+    }
+}
@@ -0,0 +1,58 @@
+package app;
+
+import model.TransportationProblem;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.IOException;
+import java.nio.file.Path;
+import java.util.Random;
+import java.util.concurrent.ForkJoinPool;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+public class VAMSolverTest {
+    @TempDir
+    Path directory;
+
+    @Test
+    public void findsFeasibleAllocationNotCheaperThanSimplex() throws IOException {
+        for (int seed = 0; seed < RandomInstances.SEEDS; seed++) {
+            TransportationProblem problem = createProblem(seed);
+
+            int[] vaccinesSold = new VAMSolver().solve(problem);
+
+            RandomInstances.assertFeasible(problem, vaccinesSold);
+            assertTrue(ProblemSolver.getTotalCost(problem, vaccinesSold) >=
+                    RandomInstances.getOptimalCost(problem) - 1e-6);
+        }
+    }
+
+    @Test
+    public void parallelVAMMatchesSequentialVAM() throws IOException {
+        ParallelCalculator parallelCalculator = new ParallelCalculator(ForkJoinPool.commonPool(), 1);
+        for (int seed = 0; seed < RandomInstances.SEEDS; seed++) {
+            TransportationProblem problem = createProblem(seed);
+
+            assertArrayEquals(new VAMSolver().solve(problem), new VAMSolver(parallelCalculator).solve(problem));
+        }
+    }
+
+    @Test
+    public void optimizedVAMMatchesSimplex() throws IOException {
+        SolverOptions options = new SolverOptions();
+        options.setOptimize(true);
+        for (int seed = 0; seed < RandomInstances.SEEDS; seed++) {
+            TransportationProblem problem = createProblem(seed);
+
+            RandomInstances.assertOptimal(problem, new ProblemSolver(options, null).solve(problem));
+        }
+    }
+
+    private TransportationProblem createProblem(int seed) throws IOException {
+        Random random = new Random(seed);
+        return RandomInstances.read(directory,
+                RandomInstances.create(random, 2 + random.nextInt(6), 2 + random.nextInt(10), 1, 3, 1, false), false);
+    }
+}